@@ -0,0 +1,569 @@
+package cs1302.benchmark;
+
+import cs1302.adt.FancyStringList;
+import cs1302.adt.StringList;
+import cs1302.p2.ArrayDequeStringList;
+import cs1302.p2.ArrayStringList;
+import cs1302.p2.ConcurrentStringList;
+import cs1302.p2.DictionaryStringList;
+import cs1302.p2.DoublyLinkedStringList;
+import cs1302.p2.IndexedStringList;
+import cs1302.p2.LinkedStringList;
+import cs1302.p2.OffHeapStringList;
+import cs1302.p2.PersistentStringList;
+import cs1302.p2.SkipListStringList;
+import cs1302.p2.UnrolledStringList;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * This {@code BenchmarkDriver} class measures the {@link StringList}
+ * implementations against each other. Every benchmark is run for every
+ * chosen implementation, list size and string length, and reports the
+ * average time and the average number of bytes allocated per operation.
+ *
+ * <p>
+ * Each measurement runs batches of operations until its time budget is used
+ * up. A batch that changes the size of the list is undone after it is timed,
+ * so every batch sees a list of the chosen size; the undoing is not timed but
+ * does use up the budget. One measurement is run and thrown away first so
+ * that the JIT compiler has warmed up. Allocation is read from the running
+ * thread, less what the reading itself allocates, so work done on other
+ * threads (such as the parallel searches of large {@link ArrayStringList}s)
+ * is not counted.
+ *
+ * <p>
+ * With {@code --concurrent}, a mixed workload of 90% {@code get} and 10%
+ * {@code append} is also run from several threads at once, comparing
+ * {@link ConcurrentStringList} against an {@link ArrayStringList} guarded by
+ * {@code synchronized} blocks.
+ */
+public class BenchmarkDriver {
+
+    private static final String USAGE = "Usage: BenchmarkDriver [--impls A,B] "
+        + "[--benchmarks a,b] [--sizes n,m] [--lengths n,m] [--time MS] "
+        + "[--iterations N] [--concurrent] [--threads n,m]";
+
+    private static final Map<String, Supplier<FancyStringList>> IMPLS = new LinkedHashMap<>();
+    private static final Map<String, Benchmark> BENCHMARKS = new LinkedHashMap<>();
+
+    // Number of operations in a batch of single-item operations
+    private static final int BATCH = 64;
+
+    // Keeps results alive so the JIT cannot remove the work producing them
+    private static long sink;
+
+    // Bytes allocated in every batch by reading the allocation counter itself
+    private static double counterBytes;
+
+    static {
+        IMPLS.put("ArrayStringList", ArrayStringList::new);
+        IMPLS.put("LinkedStringList", LinkedStringList::new);
+        IMPLS.put("DoublyLinkedStringList", DoublyLinkedStringList::new);
+        IMPLS.put("ArrayDequeStringList", ArrayDequeStringList::new);
+        IMPLS.put("UnrolledStringList", UnrolledStringList::new);
+        IMPLS.put("PersistentStringList", PersistentStringList::new);
+        IMPLS.put("OffHeapStringList", OffHeapStringList::new);
+        IMPLS.put("DictionaryStringList", DictionaryStringList::new);
+        IMPLS.put("ConcurrentStringList", ConcurrentStringList::new);
+        IMPLS.put("IndexedStringList", IndexedStringList::new);
+        IMPLS.put("SkipListStringList", SkipListStringList::new);
+
+        BENCHMARKS.put("add-head", new AddBenchmark(size -> 0));
+        BENCHMARKS.put("add-middle", new AddBenchmark(size -> size / 2));
+        BENCHMARKS.put("add-tail", new AddBenchmark(size -> size));
+        BENCHMARKS.put("get-sequential", fixture -> {
+            FancyStringList list = fixture.list;
+            for (int i = 0; i < fixture.size; i++) {
+                sink += list.get(i).length();
+            } // for
+            return fixture.size;
+        });
+        BENCHMARKS.put("get-random", fixture -> {
+            for (int i = 0; i < BATCH; i++) {
+                sink += fixture.list.get(fixture.randomIndex[i]).length();
+            } // for
+            return BATCH;
+        });
+        BENCHMARKS.put("remove", new RemoveBenchmark());
+        BENCHMARKS.put("contains-hit", fixture -> {
+            for (int i = 0; i < BATCH; i++) {
+                sink += fixture.list.contains(0, fixture.hits[i]) ? 1 : 0;
+            } // for
+            return BATCH;
+        });
+        BENCHMARKS.put("contains-miss", fixture -> {
+            for (int i = 0; i < BATCH; i++) {
+                sink += fixture.list.contains(0, fixture.misses[i]) ? 1 : 0;
+            } // for
+            return BATCH;
+        });
+        BENCHMARKS.put("makeString", fixture -> {
+            sink += fixture.list.makeString("[", ", ", "]").length();
+            return 1;
+        });
+        BENCHMARKS.put("slice", fixture -> {
+            StringList sliced = fixture.list.slice(fixture.size / 4, fixture.size * 3 / 4);
+            sink += sliced.size();
+            return 1;
+        });
+        BENCHMARKS.put("slice-step", fixture -> {
+            sink += fixture.list.slice(0, fixture.size, 3).size();
+            return 1;
+        });
+        BENCHMARKS.put("reverse", fixture -> {
+            sink += fixture.list.reverse().size();
+            return 1;
+        });
+        BENCHMARKS.put("append-bulk", new Benchmark() {
+            @Override
+            public int run(Fixture fixture) {
+                fixture.list.append(fixture.bulk);
+                return 1;
+            } // run
+
+            @Override
+            public void reset(Fixture fixture) {
+                fixture.refill();
+            } // reset
+        });
+    } // static
+
+    /**
+     * {@code Benchmark} is one operation being measured.
+     */
+    private interface Benchmark {
+
+        /**
+         * {@code run} runs one timed batch of operations.
+         *
+         * @param fixture is the list and data being measured.
+         * @return the number of operations run.
+         */
+        int run(Fixture fixture);
+
+        /**
+         * {@code reset} puts the list back the way it was before {@code run}.
+         * It is not timed.
+         *
+         * @param fixture is the list and data being measured.
+         */
+        default void reset(Fixture fixture) {
+        } // reset
+
+    } // Benchmark
+
+    /**
+     * {@code Position} picks where in a list of a given size to work.
+     */
+    private interface Position {
+
+        /**
+         * {@code at} returns an index of a list of {@code size} items.
+         *
+         * @param size is the size of the list.
+         * @return the index to work at.
+         */
+        int at(int size);
+
+    } // Position
+
+    /**
+     * {@code AddBenchmark} adds a batch of items at one position and removes
+     * them again afterwards, newest first.
+     */
+    private static class AddBenchmark implements Benchmark {
+
+        private final Position position;
+        private final int[] addedAt = new int[BATCH];
+
+        /**
+         * Constructs an {@code AddBenchmark} that adds at {@code position}.
+         *
+         * @param position picks the index items are added at.
+         */
+        AddBenchmark(Position position) {
+            this.position = position;
+        } // AddBenchmark
+
+        @Override
+        public int run(Fixture fixture) {
+            FancyStringList list = fixture.list;
+            for (int i = 0; i < BATCH; i++) {
+                addedAt[i] = position.at(list.size());
+                list.add(addedAt[i], fixture.misses[i]);
+            } // for
+            return BATCH;
+        } // run
+
+        @Override
+        public void reset(Fixture fixture) {
+            for (int i = BATCH - 1; i >= 0; i--) {
+                fixture.list.remove(addedAt[i]);
+            } // for
+        } // reset
+
+    } // AddBenchmark
+
+    /**
+     * {@code RemoveBenchmark} removes a batch of items from the middle of the
+     * list and puts them back afterwards.
+     */
+    private static class RemoveBenchmark implements Benchmark {
+
+        private final String[] removed = new String[BATCH];
+
+        @Override
+        public int run(Fixture fixture) {
+            int count = Math.min(BATCH, fixture.size);
+            int middle = (fixture.size - count) / 2;
+            for (int i = 0; i < count; i++) {
+                removed[i] = fixture.list.remove(middle);
+            } // for
+            return count;
+        } // run
+
+        @Override
+        public void reset(Fixture fixture) {
+            int count = Math.min(BATCH, fixture.size);
+            int middle = (fixture.size - count) / 2;
+            for (int i = count - 1; i >= 0; i--) {
+                fixture.list.add(middle, removed[i]);
+            } // for
+        } // reset
+
+    } // RemoveBenchmark
+
+    /**
+     * {@code Fixture} holds a filled list and the data the benchmarks need.
+     */
+    private static class Fixture {
+
+        private final Supplier<FancyStringList> impl;
+        private final int size;
+        private final String[] items;
+        private final String[] hits = new String[BATCH];
+        private final String[] misses = new String[BATCH];
+        private final int[] randomIndex = new int[BATCH];
+        private final ArrayStringList bulk = new ArrayStringList();
+        private FancyStringList list;
+
+        /**
+         * Constructs a {@code Fixture} with a list of {@code size} strings of
+         * {@code length} characters.
+         *
+         * @param impl makes empty lists of the implementation being measured.
+         * @param size is the number of items in the list.
+         * @param length is the length of every string.
+         */
+        Fixture(Supplier<FancyStringList> impl, int size, int length) {
+            this.impl = impl;
+            this.size = size;
+            Random random = new Random(size * 31L + length);
+            items = new String[size];
+            for (int i = 0; i < size; i++) {
+                items[i] = key(i, length, random);
+            } // for
+            for (int i = 0; i < BATCH; i++) {
+                // Copying so that equals cannot return early on the same object
+                hits[i] = new String(items[random.nextInt(size)]);
+                misses[i] = key(size + i, length, random);
+                randomIndex[i] = random.nextInt(size);
+            } // for
+            for (int i = 0; i < Math.max(1, size / 10); i++) {
+                bulk.append(items[i]);
+            } // for
+            refill();
+        } // Fixture
+
+        /**
+         * {@code key} makes the unique string number {@code i}, padded with
+         * random letters to {@code length} characters.
+         *
+         * @param i is the number of the string.
+         * @param length is the length of the string.
+         * @param random is the source of the padding letters.
+         * @return the string.
+         */
+        private static String key(int i, int length, Random random) {
+            StringBuilder key = new StringBuilder(length);
+            key.append(Integer.toString(i, 36)).append('-');
+            while (key.length() < length) {
+                key.append((char) ('a' + random.nextInt(26)));
+            } // while
+            return key.toString();
+        } // key
+
+        /**
+         * {@code refill} replaces the list with a new one holding the items.
+         */
+        void refill() {
+            list = impl.get();
+            for (String item : items) {
+                list.append(item);
+            } // for
+        } // refill
+
+    } // Fixture
+
+    /**
+     * {@code allocatedBytes} returns the number of bytes the running thread
+     * has allocated so far.
+     *
+     * @return the allocated bytes, or -1 if the JVM cannot tell.
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+        } // if
+        return -1;
+    } // allocatedBytes
+
+    /**
+     * {@code measure} runs batches of {@code benchmark} for {@code budget}
+     * nanoseconds, counting the untimed resets too: undoing a batch can take
+     * far longer than the batch itself, such as removing items from the
+     * middle of a {@link LinkedStringList} that were added through its
+     * cursor. At least one batch is always run.
+     *
+     * @param benchmark is the benchmark being run.
+     * @param fixture is the list and data being measured.
+     * @param budget is the running time allowed, in nanoseconds.
+     * @return the nanoseconds and bytes per operation.
+     */
+    private static double[] measure(Benchmark benchmark, Fixture fixture, long budget) {
+        long operations = 0;
+        long elapsed = 0;
+        long bytes = 0;
+        int batchSize = 0;
+        long deadline = System.nanoTime() + budget;
+        while (operations == 0 || System.nanoTime() - deadline < 0) {
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            batchSize = benchmark.run(fixture);
+            operations += batchSize;
+            elapsed += System.nanoTime() - start;
+            bytes += allocatedBytes() - bytesBefore;
+            benchmark.reset(fixture);
+        } // while
+        double batches = (double) operations / batchSize;
+        return new double[] {
+            (double) elapsed / operations,
+            (bytes - counterBytes * batches) / operations
+        };
+    } // measure
+
+    /**
+     * {@code runConcurrent} runs the mixed multi-threaded workload on
+     * {@code list} and returns its throughput.
+     *
+     * @param list is the list the threads share.
+     * @param guarded is true when every call must hold the list's monitor.
+     * @param threads is the number of threads.
+     * @param millis is how long the threads run.
+     * @return the operations completed per millisecond.
+     * @throws InterruptedException when the driver is interrupted while waiting.
+     */
+    private static double runConcurrent(FancyStringList list, boolean guarded, int threads,
+        long millis) throws InterruptedException {
+        long[] counts = new long[threads];
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        long deadline = System.nanoTime() + millis * 1_000_000L;
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long done = 0;
+                long local = 0;
+                try {
+                    go.await();
+                } catch (InterruptedException ie) {
+                    return;
+                } // try
+                while ((done & 255) != 0 || System.nanoTime() < deadline) {
+                    if (random.nextInt(10) == 0) {
+                        if (guarded) {
+                            synchronized (list) {
+                                list.append("item");
+                            } // synchronized
+                        } else {
+                            list.append("item");
+                        } // if
+                    } else if (guarded) {
+                        synchronized (list) {
+                            local += list.get(random.nextInt(list.size())).length();
+                        } // synchronized
+                    } else {
+                        local += list.get(random.nextInt(list.size())).length();
+                    } // if
+                    done++;
+                } // while
+                counts[id] = done;
+                sink += local;
+            });
+            workers.add(worker);
+            worker.start();
+        } // for
+        go.countDown();
+        long total = 0;
+        for (int t = 0; t < threads; t++) {
+            workers.get(t).join();
+            total += counts[t];
+        } // for
+        return (double) total / millis;
+    } // runConcurrent
+
+    /**
+     * {@code ints} parses a comma separated list of numbers.
+     *
+     * @param text is the comma separated numbers.
+     * @return the numbers.
+     */
+    private static int[] ints(String text) {
+        return Arrays.stream(text.split(",")).mapToInt(Integer::parseInt).toArray();
+    } // ints
+
+    /**
+     * {@code names} parses a comma separated list of names and checks that
+     * every name is one of {@code known}.
+     *
+     * @param text is the comma separated names.
+     * @param known is the map of known names.
+     * @return the names.
+     */
+    private static String[] names(String text, Map<String, ?> known) {
+        String[] names = text.split(",");
+        for (String name : names) {
+            if (!known.containsKey(name)) {
+                throw new IllegalArgumentException("unknown name " + name);
+            } // if
+        } // for
+        return names;
+    } // names
+
+    /**
+     * The {@code main} method parses the options and runs the benchmarks.
+     *
+     * @param args is the command line options; see {@link #USAGE}.
+     */
+    public static void main(String[] args) {
+        String[] impls = {"ArrayStringList", "LinkedStringList"};
+        String[] benchmarks = BENCHMARKS.keySet().toArray(new String[0]);
+        int[] sizes = {100, 1_000, 10_000, 100_000, 1_000_000};
+        int[] lengths = {8, 64};
+        int[] threadCounts = {1, Runtime.getRuntime().availableProcessors()};
+        long millis = 200;
+        int iterations = 3;
+        boolean concurrent = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--impls":
+                    impls = names(args[++i], IMPLS);
+                    break;
+                case "--benchmarks":
+                    benchmarks = names(args[++i], BENCHMARKS);
+                    break;
+                case "--sizes":
+                    sizes = ints(args[++i]);
+                    break;
+                case "--lengths":
+                    lengths = ints(args[++i]);
+                    break;
+                case "--time":
+                    millis = Long.parseLong(args[++i]);
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threadCounts = ints(args[++i]);
+                    break;
+                case "--concurrent":
+                    concurrent = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown option " + args[i]);
+                } // switch
+            } // for
+            for (int length : lengths) {
+                if (length < 8) {
+                    throw new IllegalArgumentException("string lengths must be at least 8");
+                } // if
+            } // for
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } // try
+
+        // Measuring an empty benchmark to find what the measuring allocates
+        Fixture empty = new Fixture(ArrayStringList::new, 1, 8);
+        measure(fixture -> 1, empty, millis * 1_000_000L);
+        counterBytes = measure(fixture -> 1, empty, millis * 1_000_000L)[1];
+
+        System.out.printf("%-15s %-24s %9s %6s %14s %12s%n",
+            "benchmark", "implementation", "size", "length", "ns/op", "B/op");
+        for (String name : benchmarks) {
+            for (String impl : impls) {
+                for (int size : sizes) {
+                    for (int length : lengths) {
+                        Fixture fixture = new Fixture(IMPLS.get(impl), size, length);
+                        Benchmark benchmark = BENCHMARKS.get(name);
+                        measure(benchmark, fixture, millis * 1_000_000L); // warm-up
+                        double nanos = 0;
+                        double bytes = 0;
+                        for (int i = 0; i < iterations; i++) {
+                            double[] result = measure(benchmark, fixture, millis * 1_000_000L);
+                            nanos += result[0] / iterations;
+                            bytes += result[1] / iterations;
+                        } // for
+                        System.out.printf("%-15s %-24s %9d %6d %14.1f %12.1f%n",
+                            name, impl, size, length, nanos, bytes);
+                    } // for
+                } // for
+            } // for
+        } // for
+
+        if (concurrent) {
+            System.out.println();
+            System.out.printf("%-30s %7s %14s%n", "90% get, 10% append", "threads", "ops/ms");
+            try {
+                for (int threads : threadCounts) {
+                    for (boolean guarded : new boolean[] {true, false}) {
+                        FancyStringList list = guarded
+                            ? new ArrayStringList() : new ConcurrentStringList();
+                        for (int i = 0; i < 100_000; i++) {
+                            list.append("item");
+                        } // for
+                        runConcurrent(list, guarded, threads, millis); // warm-up
+                        double throughput = runConcurrent(list, guarded, threads,
+                            millis * iterations);
+                        System.out.printf("%-30s %7d %14.1f%n",
+                            guarded ? "synchronized ArrayStringList" : "ConcurrentStringList",
+                            threads, throughput);
+                    } // for
+                } // for
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } // try
+        } // if
+
+        if (sink == 42) {
+            System.out.println(); // only here so sink is read
+        } // if
+    } // main
+
+} // BenchmarkDriver
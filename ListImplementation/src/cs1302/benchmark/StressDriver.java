@@ -0,0 +1,262 @@
+package cs1302.benchmark;
+
+import cs1302.p2.ConcurrentStringList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This {@code StressDriver} class runs a mixed workload from several threads
+ * at once against one {@link ConcurrentStringList} and then checks that no
+ * change was lost. The threads append, add at random indices, remove from
+ * random indices, read, search, and now and then sort or parallel sort the
+ * whole list, all at the same time.
+ *
+ * <p>
+ * Every item added is unique, and each thread remembers what it added and
+ * what its removals returned. When the threads are done the list must hold
+ * exactly the initial items plus everything added less everything removed,
+ * each once, and sorting it must leave it in order. An index that another
+ * thread's removal made out of range is skipped, since that call changed
+ * nothing. Each round prints its counts; the first failed check stops the
+ * driver with exit status 1.
+ */
+public class StressDriver {
+
+    private static final String USAGE = "Usage: StressDriver [--threads N] [--ops N] "
+        + "[--size N] [--rounds N]";
+
+    // Keeps the results of reads alive so the JIT cannot remove the reads
+    private static long sink;
+
+    /**
+     * {@code Worker} is what one thread did to the list.
+     */
+    private static class Worker {
+
+        private final List<String> added = new ArrayList<>();
+        private final List<String> removed = new ArrayList<>();
+        private long skipped;
+        private long sorts;
+
+    } // Worker
+
+    /**
+     * {@code runRound} runs {@code threads} threads of {@code ops} operations
+     * each against a list of {@code size} items and checks the result.
+     *
+     * @param round is the number of the round, used to make the items unique.
+     * @param threads is the number of threads.
+     * @param ops is the number of operations each thread runs.
+     * @param size is the number of items in the list before the threads start.
+     * @throws InterruptedException when the driver is interrupted while waiting.
+     * @throws IllegalStateException when a thread failed or a check did not hold.
+     */
+    private static void runRound(int round, int threads, int ops, int size)
+        throws InterruptedException {
+        ConcurrentStringList list = new ConcurrentStringList();
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            String item = "r" + round + "-init-" + i;
+            list.append(item);
+            expected.add(item);
+        } // for
+
+        Worker[] workers = new Worker[threads];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> running = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Worker worker = new Worker();
+            workers[t] = worker;
+            String prefix = "r" + round + "-t" + t + "-";
+            Thread thread = new Thread(() -> {
+                try {
+                    go.await();
+                    work(list, worker, prefix, ops);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } // try
+            });
+            running.add(thread);
+            thread.start();
+        } // for
+        go.countDown();
+        for (Thread thread : running) {
+            thread.join();
+        } // for
+        if (failure.get() != null) {
+            throw new IllegalStateException("a thread failed", failure.get());
+        } // if
+
+        long added = 0;
+        long removed = 0;
+        long skipped = 0;
+        long sorts = 0;
+        for (Worker worker : workers) {
+            expected.addAll(worker.added);
+            added += worker.added.size();
+            removed += worker.removed.size();
+            skipped += worker.skipped;
+            sorts += worker.sorts;
+        } // for
+        for (Worker worker : workers) {
+            for (String item : worker.removed) {
+                if (!expected.remove(item)) {
+                    throw new IllegalStateException(item + " was removed twice or never added");
+                } // if
+            } // for
+        } // for
+
+        check(list, expected);
+        System.out.printf("round %d: %d threads, %d added, %d removed, %d sorts, "
+            + "%d skipped, %d items ok%n", round, threads, added, removed, sorts, skipped,
+            list.size());
+    } // runRound
+
+    /**
+     * {@code work} runs one thread's share of the mixed workload.
+     *
+     * @param list is the list the threads share.
+     * @param worker is where the thread records what it changed.
+     * @param prefix starts every item the thread adds.
+     * @param ops is the number of operations to run.
+     */
+    private static void work(ConcurrentStringList list, Worker worker, String prefix, int ops) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long local = 0;
+        for (int op = 0; op < ops; op++) {
+            int choice = random.nextInt(100);
+            try {
+                if (choice < 25) {
+                    String item = prefix + op;
+                    list.append(item);
+                    worker.added.add(item);
+                } else if (choice < 40) {
+                    String item = prefix + op;
+                    list.add(random.nextInt(list.size() + 1), item);
+                    worker.added.add(item);
+                } else if (choice < 60) {
+                    worker.removed.add(list.remove(random.nextInt(Math.max(list.size(), 1))));
+                } else if (choice < 80) {
+                    local += list.get(random.nextInt(Math.max(list.size(), 1))).length();
+                } else if (choice < 90) {
+                    local += list.indexOf(0, prefix + random.nextInt(op + 1));
+                } else if (choice < 99) {
+                    local += list.contains(0, prefix + random.nextInt(op + 1)) ? 1 : 0;
+                } else {
+                    if (random.nextBoolean()) {
+                        list.sort(null);
+                    } else {
+                        list.parallelSort(null);
+                    } // if
+                    worker.sorts++;
+                } // if
+            } catch (IndexOutOfBoundsException e) {
+                // Another thread changed the size between reading it and using it
+                worker.skipped++;
+            } // try
+        } // for
+        sink += local;
+    } // work
+
+    /**
+     * {@code check} checks that {@code list} holds exactly the items in
+     * {@code expected}, each once, and that sorting it puts them in order.
+     *
+     * @param list is the list after the threads are done.
+     * @param expected is the items it must hold.
+     * @throws IllegalStateException when a check does not hold.
+     */
+    private static void check(ConcurrentStringList list, Set<String> expected) {
+        if (list.size() != expected.size()) {
+            throw new IllegalStateException("the list has " + list.size()
+                + " items, expected " + expected.size());
+        } // if
+        Set<String> seen = new HashSet<>();
+        for (String item : list) {
+            if (!expected.contains(item)) {
+                throw new IllegalStateException("the list holds " + item
+                    + ", which was removed or never added");
+            } // if
+            if (!seen.add(item)) {
+                throw new IllegalStateException("the list holds " + item + " twice");
+            } // if
+        } // for
+
+        list.sort(null);
+        String[] sorted = expected.toArray(new String[0]);
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            if (!list.get(i).equals(sorted[i])) {
+                throw new IllegalStateException("after sorting, index " + i + " holds "
+                    + list.get(i) + ", expected " + sorted[i]);
+            } // if
+        } // for
+    } // check
+
+    /**
+     * The {@code main} method parses the options and runs the rounds.
+     *
+     * @param args is the command line options; see {@link #USAGE}.
+     */
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int ops = 20_000;
+        int size = 10_000;
+        int rounds = 5;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--ops":
+                    ops = Integer.parseInt(args[++i]);
+                    break;
+                case "--size":
+                    size = Integer.parseInt(args[++i]);
+                    break;
+                case "--rounds":
+                    rounds = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown option " + args[i]);
+                } // switch
+            } // for
+            if (threads < 1 || ops < 0 || size < 0 || rounds < 0) {
+                throw new IllegalArgumentException("--threads must be positive and "
+                    + "the other counts not negative");
+            } // if
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } // try
+
+        try {
+            for (int round = 0; round < rounds; round++) {
+                runRound(round, threads, ops, size);
+            } // for
+        } catch (IllegalStateException e) {
+            System.err.println("FAILED: " + e.getMessage());
+            if (e.getCause() != null) {
+                e.getCause().printStackTrace();
+            } // if
+            System.exit(1);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } // try
+
+        if (sink == 42) {
+            System.out.println(); // only here so sink is read
+        } // if
+    } // main
+
+} // StressDriver
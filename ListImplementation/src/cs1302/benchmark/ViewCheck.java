@@ -0,0 +1,94 @@
+package cs1302.benchmark;
+
+import cs1302.adt.FancyStringList;
+import cs1302.p2.AppendOnlyStringList;
+import cs1302.p2.ArrayStringList;
+import cs1302.p2.BaseStringList;
+import cs1302.p2.LinkedStringList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * This {@code ViewCheck} class checks the reversed views returned by
+ * {@link BaseStringList#reversedView} against the items they were made from.
+ * It includes {@link AppendOnlyStringList}, which keeps its size in its own
+ * counter and overrides {@code size()}, so a view that read the inherited
+ * {@code size} field instead would come out empty.
+ *
+ * <p>
+ * Each check prints its name and {@code ok}; the first mismatch stops the
+ * driver with an {@link AssertionError} naming what differed.
+ */
+public class ViewCheck {
+
+    private static final Map<String, Supplier<BaseStringList>> IMPLS = new LinkedHashMap<>();
+
+    static {
+        IMPLS.put("ArrayStringList", ArrayStringList::new);
+        IMPLS.put("LinkedStringList", LinkedStringList::new);
+        IMPLS.put("AppendOnlyStringList", AppendOnlyStringList::new);
+    } // static
+
+    /**
+     * The main entry-point for the checks.
+     *
+     * @param args the command-line arguments, which are not used.
+     */
+    public static void main(String[] args) {
+        for (Map.Entry<String, Supplier<BaseStringList>> impl : IMPLS.entrySet()) {
+            for (int n : new int[] {0, 1, 3, 100}) {
+                BaseStringList list = impl.getValue().get();
+                for (int i = 0; i < n; i++) {
+                    list.append("item" + i);
+                } // for
+                checkReversed(impl.getKey() + " n=" + n, list, n);
+            } // for
+        } // for
+    } // main
+
+    /**
+     * {@code checkReversed} checks that the reversed view of {@code list},
+     * and the reversed view of that view, hold the right items.
+     *
+     * @param name is the name printed for the check.
+     * @param list is a list holding {@code item0} to {@code item(n - 1)}.
+     * @param n is the number of items in the list.
+     */
+    private static void checkReversed(String name, BaseStringList list, int n) {
+        BaseStringList reversed = list.reversedView();
+        check(name, "size", n, reversed.size());
+        Iterator<String> iterator = reversed.iterator();
+        for (int i = 0; i < n; i++) {
+            String expected = "item" + (n - 1 - i);
+            check(name, "get(" + i + ")", expected, reversed.get(i));
+            check(name, "iterator item " + i, expected, iterator.next());
+        } // for
+        check(name, "iterator end", false, iterator.hasNext());
+
+        FancyStringList twice = list.reversedView().reverse();
+        check(name, "reverse().size", n, twice.size());
+        check(name, "reverse().makeString", list.makeString("[", ",", "]"),
+            twice.makeString("[", ",", "]"));
+        System.out.println(name + ": ok");
+    } // checkReversed
+
+    /**
+     * {@code check} stops the driver when {@code actual} is not
+     * {@code expected}.
+     *
+     * @param name is the name of the check.
+     * @param what is what was compared.
+     * @param expected is the right value.
+     * @param actual is the value the view gave.
+     * @throws AssertionError when the values differ.
+     */
+    private static void check(String name, String what, Object expected, Object actual) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(name + ": " + what + " was " + actual
+                + ", expected " + expected);
+        } // if
+    } // check
+
+} // ViewCheck
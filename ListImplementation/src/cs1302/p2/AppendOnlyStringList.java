@@ -0,0 +1,384 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@code AppendOnlyStringList} is a child class of {@link BaseStringList}
+ * that many threads can append to at once without locking. Items can only be
+ * added at the end; {@code remove}, {@code clear} and adding anywhere else
+ * throw {@link UnsupportedOperationException}.
+ *
+ * <p>
+ * Items are stored in a chain of buckets that double in size, so a bucket
+ * never has to be copied when the list grows. An appending thread reserves
+ * its index with a single atomic increment, creates the bucket with a
+ * compare-and-set if it is missing, and writes its item into its own slot.
+ * An item becomes visible once every index before it has been written, so
+ * readers always see a complete prefix of the list up to {@link #size}.
+ * Nothing waits for that: whichever thread next appends or asks for the size
+ * moves the published count past every slot that has been written since, and
+ * stops at the first one that has not. No thread ever holds a lock, and a
+ * producer that is preempted between reserving and writing its slot only
+ * holds back the items after it from being seen, never the other producers.
+ */
+public class AppendOnlyStringList extends BaseStringList implements RandomAccess {
+
+    /** The size of the first bucket; bucket {@code b} holds {@code FIRST_BUCKET << b} items. */
+    private static final int FIRST_BUCKET = 16;
+    private static final int FIRST_BUCKET_BITS = 4;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<String>> buckets =
+        new AtomicReferenceArray<>(32);
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicInteger published = new AtomicInteger();
+
+    /**
+     * Constructor to be able to instantiate {@code AppendOnlyStringList} objects.
+     */
+    public AppendOnlyStringList() {
+        size = 0;
+    } // AppendOnlyStringList
+
+    /**
+     * Copy constructor of {@code AppendOnlyStringList} objects so it can create
+     * deep copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public AppendOnlyStringList(StringList other) {
+        this();
+        this.append(other);
+    } // AppendOnlyStringList
+
+    /**
+     * {@code bucketOf} returns the bucket that holds {@code index}.
+     *
+     * @param index is a list index.
+     * @return the number of the bucket holding the index.
+     */
+    private static int bucketOf(int index) {
+        int position = index + FIRST_BUCKET;
+        return 31 - Integer.numberOfLeadingZeros(position) - FIRST_BUCKET_BITS;
+    } // bucketOf
+
+    /**
+     * {@code offsetOf} returns the position of {@code index} inside its bucket.
+     *
+     * @param index is a list index.
+     * @return the offset of the index inside its bucket.
+     */
+    private static int offsetOf(int index) {
+        int position = index + FIRST_BUCKET;
+        return position - Integer.highestOneBit(position);
+    } // offsetOf
+
+    /**
+     * {@code bucket} returns the bucket numbered {@code b}, creating it with a
+     * compare-and-set if no thread has yet.
+     *
+     * @param b is the bucket number.
+     * @return the bucket.
+     */
+    private AtomicReferenceArray<String> bucket(int b) {
+        AtomicReferenceArray<String> found = buckets.get(b);
+        if (found == null) {
+            buckets.compareAndSet(b, null, new AtomicReferenceArray<>(FIRST_BUCKET << b));
+            found = buckets.get(b);
+        } // if
+        return found;
+    } // bucket
+
+    /**
+     * {@code write} stores {@code item} in the slot reserved for {@code index}.
+     *
+     * @param index is the reserved index.
+     * @param item is the item being stored.
+     */
+    private void write(int index, String item) {
+        bucket(bucketOf(index)).set(offsetOf(index), item);
+    } // write
+
+    /**
+     * {@code written} checks whether the slot of {@code index} has been
+     * written yet.
+     *
+     * @param index is a reserved index.
+     * @return true when the item at the index has been stored.
+     */
+    private boolean written(int index) {
+        AtomicReferenceArray<String> found = buckets.get(bucketOf(index));
+        return found != null && found.get(offsetOf(index)) != null;
+    } // written
+
+    /**
+     * {@code advance} moves the published count past every slot written
+     * since, stopping at the first reserved slot that is still empty. It
+     * never waits, and any number of threads can run it at once.
+     *
+     * @return the number of items published.
+     */
+    private int advance() {
+        int seen = published.get();
+        int end = seen;
+        int limit = reserved.get();
+        while (end < limit && written(end)) {
+            end++;
+        } // while
+        while (seen < end && !published.compareAndSet(seen, end)) {
+            seen = published.get();
+        } // while
+        return Math.max(seen, end);
+    } // advance
+
+    /**
+     * {@code checkItem} checks that an {@code item} is allowed in the list.
+     *
+     * @param item is the String item that is checked.
+     * @throws NullPointerException when the item is null.
+     * @throws IllegalArgumentException when the item is the empty string.
+     */
+    private static void checkItem(String item) {
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+    } // checkItem
+
+    /**
+     * {@code append} appends an item at the end of the list without locking
+     * or waiting. The item is seen once every item reserved before it has
+     * been written as well.
+     *
+     * @param item is the item being appended.
+     */
+    @Override
+    public boolean append(String item) {
+        checkItem(item);
+        write(reserved.getAndIncrement(), item);
+        advance();
+        return true;
+    } // append
+
+    /**
+     * {@code append} appends a list of items at the end of the list. The
+     * indices for all of them are reserved with one atomic add, so they stay
+     * next to each other even while other threads append.
+     *
+     * @param items is the list of items being appended.
+     */
+    @Override
+    public boolean append(StringList items) {
+        String[] incoming = toArray(items);
+        if (incoming.length == 0) {
+            return true;
+        } // if
+        // An empty slot would hold back every later item, so all are checked first
+        for (String item : incoming) {
+            checkItem(item);
+        } // for
+
+        int first = reserved.getAndAdd(incoming.length);
+        for (int i = 0; i < incoming.length; i++) {
+            write(first + i, incoming[i]);
+        } // for
+        advance();
+        return true;
+    } // append
+
+    /**
+     * {@code add} adds an {@code item} at the end of the list. Only
+     * {@code index == size()} is supported.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     * @throws UnsupportedOperationException when {@code index} is not the end of the list.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        if (index != size()) {
+            throw new UnsupportedOperationException("items can only be appended");
+        } // if
+        return append(item);
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} at the end of the list. Only
+     * {@code index == size()} is supported.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     * @throws UnsupportedOperationException when {@code index} is not the end of the list.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        if (index != size()) {
+            throw new UnsupportedOperationException("items can only be appended");
+        } // if
+        append(items);
+        return !items.isEmpty();
+    } // add
+
+    /**
+     * {@code clear} is not supported by an append-only list.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("items can only be appended");
+    } // clear
+
+    /**
+     * {@code remove} is not supported by an append-only list.
+     *
+     * @param index is the index of the string that would be removed.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public String remove(int index) {
+        throw new UnsupportedOperationException("items can only be appended");
+    } // remove
+
+    /**
+     * {@code get} gets an item from the published part of the list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return buckets.get(bucketOf(index)).get(offsetOf(index));
+    } // get
+
+    /**
+     * {@code size} is the number of items that have been published, first
+     * publishing any that have been written since.
+     *
+     * @return size is the current size of the list.
+     */
+    @Override
+    public int size() {
+        return advance();
+    } // size
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code applyBatch} applies {@code edits} one at a time. Only inserts at
+     * the end of the list are supported, and those need no shifting.
+     *
+     * @param edits is the edits, in the order they are applied.
+     * @throws UnsupportedOperationException when an edit is not an insert at the end.
+     */
+    @Override
+    public void applyBatch(List<Edit> edits) {
+        for (Edit edit : edits) {
+            edit.applyTo(this);
+        } // for
+    } // applyBatch
+
+    /**
+     * {@code reverse} reverses the order of the strings that were published
+     * when it was called.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        int count = size();
+        String[] reversed = new String[count];
+        for (int i = 0; i < count; i++) {
+            reversed[count - 1 - i] = get(i);
+        } // for
+        return new ArrayStringList(reversed);
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size. The original list is left unchanged.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        String[] sliced = new String[(stop - start + step - 1) / step];
+        for (int i = start, j = 0; i < stop; i += step, j++) {
+            sliced[j] = get(i);
+        } // for
+        return new ArrayStringList(sliced);
+    } // slice
+
+    /**
+     * {@code iterator} returns an iterator over the items that were published
+     * when it was made. Items appended afterwards are not seen, and the
+     * iterator never throws {@link java.util.ConcurrentModificationException}.
+     *
+     * @return an iterator over a published prefix of the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private final int fence = size();
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < fence;
+            } // hasNext
+
+            @Override
+            public String next() {
+                if (next >= fence) {
+                    throw new NoSuchElementException();
+                } // if
+                String item = buckets.get(bucketOf(next)).get(offsetOf(next));
+                next++;
+                return item;
+            } // next
+        };
+    } // iterator
+
+} // AppendOnlyStringList
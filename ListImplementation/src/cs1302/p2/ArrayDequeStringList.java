@@ -0,0 +1,237 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.RandomAccess;
+
+/**
+ * {@code ArrayDequeStringList} is a child class of {@link BaseStringList}
+ * that keeps its strings in a circular array. The list starts at the
+ * {@code head} offset and wraps around the end of the array, so items can be
+ * added or removed at either end without shifting anything.
+ */
+public class ArrayDequeStringList extends BaseStringList implements RandomAccess {
+
+    private String[] items;
+    private int head;
+
+    /**
+     * Constructor to be able to instantiate {@code ArrayDequeStringList} objects.
+     */
+    public ArrayDequeStringList() {
+        items = new String[100];
+        head = 0;
+        size = 0;
+    } // ArrayDequeStringList
+
+    /**
+     * Copy constructor of {@code ArrayDequeStringList} objects so it can create
+     * deep copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public ArrayDequeStringList(StringList other) {
+        items = new String[Math.max(100, other.size())];
+        head = 0;
+        for (int i = 0; i < other.size(); i++) {
+            items[i] = other.get(i);
+        } // for
+        size = other.size();
+    } // ArrayDequeStringList
+
+    /**
+     * {@code physical} maps a list index to its position in {@code items}.
+     *
+     * @param index is the list index.
+     * @return the array position of that index.
+     */
+    private int physical(int index) {
+        int position = head + index;
+        if (position >= items.length) {
+            position -= items.length;
+        } // if
+        return position;
+    } // physical
+
+    /**
+     * {@code arrayLengthCheck} checks to see if the array is full or not.
+     * If the array is full, then it doubles the array and unwraps the items
+     * so that the list starts at position 0 again.
+     */
+    private void arrayLengthCheck() {
+        if (size == items.length) {
+            String[] newItems = new String[items.length * 2];
+            int firstPart = items.length - head;
+            System.arraycopy(items, head, newItems, 0, firstPart);
+            System.arraycopy(items, 0, newItems, firstPart, head);
+            items = newItems;
+            head = 0;
+        } // if
+    } // arrayLengthCheck
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position. Only the items between the index and the
+     * nearer end of the list are shifted.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+
+        // Checking if there is enough space in array
+        arrayLengthCheck();
+
+        if (index < size / 2) {
+            // Moving head back one space and shifting the front items to the left
+            head = (head == 0) ? items.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                items[physical(i)] = items[physical(i + 1)];
+            } // for
+        } else {
+            // Shifting the back items to the right
+            for (int i = size; i > index; i--) {
+                items[physical(i)] = items[physical(i - 1)];
+            } // for
+        } // if
+        items[physical(index)] = item;
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            items[physical(i)] = null;
+        } // for
+        head = 0;
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return items[physical(index)];
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. Only the items between the index and the nearer end
+     * of the list are shifted to close the gap.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        String removedString = items[physical(index)];
+        if (index < size / 2) {
+            // Shifting the front items to the right and moving head forward
+            for (int i = index; i > 0; i--) {
+                items[physical(i)] = items[physical(i - 1)];
+            } // for
+            items[head] = null;
+            head = physical(1);
+        } else {
+            // Shifting the back items to the left
+            for (int i = index; i < size - 1; i++) {
+                items[physical(i)] = items[physical(i + 1)];
+            } // for
+            items[physical(size - 1)] = null;
+        } // if
+        size--;
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        ArrayDequeStringList reversedList = new ArrayDequeStringList();
+        reversedList.items = new String[Math.max(100, size)];
+        for (int i = 0; i < size; i++) {
+            reversedList.items[i] = items[physical(size - 1 - i)];
+        } // for
+        reversedList.size = size;
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        ArrayDequeStringList slicedList = new ArrayDequeStringList();
+        int slicedSize = (stop - start + step - 1) / step;
+        slicedList.items = new String[Math.max(100, slicedSize)];
+        int j = 0;
+        for (int i = start; i < stop; i += step, j++) {
+            slicedList.items[j] = items[physical(i)];
+        } // for
+        slicedList.size = slicedSize;
+        return slicedList;
+    } // slice
+
+} // ArrayDequeStringList
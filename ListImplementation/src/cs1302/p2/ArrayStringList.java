@@ -3,15 +3,36 @@ package cs1302.p2;
 import cs1302.adt.StringList;
 import cs1302.adt.FancyStringList;
 import cs1302.adt.Node;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * {@code ArrayStringList} is a child class of {@link BaseStringList}
  * that has the specific implementation of methods for arrays.
+ *
+ * <p>
+ * Searches over lists of at least {@link #PARALLEL_THRESHOLD} items split the
+ * array across the common {@link java.util.concurrent.ForkJoinPool}. Smaller
+ * lists are searched with a plain loop, since handing the work to other
+ * threads costs more than it saves.
  */
-public class ArrayStringList extends BaseStringList {
+public class ArrayStringList extends BaseStringList implements RandomAccess {
+
+    /** The smallest number of items searched in parallel. */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** The smallest number of items sorted by {@link MsdRadixSort} in natural order. */
+    public static final int RADIX_SORT_THRESHOLD = 1 << 12;
 
     private String[] items;
 
+    // Optional filter that answers most misses without a scan; null when off
+    private BloomFilter bloomFilter;
+
     /**
      * Constructor to be able to instantiate {@code ArrayStringList} objects.
      */
@@ -31,36 +52,84 @@ public class ArrayStringList extends BaseStringList {
      * @param other is the other StringList that is being copied.
      */
     public ArrayStringList(StringList other) {
-        this.items = new String[100];
+        // Sizing the array once to fit every element in other
+        this.items = new String[Math.max(100, other.size())];
         // Setting all elements to elements in other
         for (int i = 0; i < other.size(); i++) {
-            arrayLengthCheck();
             this.items[i] = other.get(i);
-            this.size++;
         } // for
+        this.size = other.size();
+    } // ArrayStringList
+
+    /**
+     * Constructs an {@code ArrayStringList} that takes over an already filled
+     * array of items instead of copying them one by one.
+     *
+     * @param items is the array of items, which must not contain null or empty strings.
+     */
+    ArrayStringList(String[] items) {
+        this.items = items.length < 100 ? Arrays.copyOf(items, 100) : items;
+        this.size = items.length;
     } // ArrayStringList
 
 
+    /**
+     * {@code enableBloomFilter} starts keeping a {@link BloomFilter} next to the
+     * items so that lookups for strings that are not in the list return
+     * without a scan. The filter is sized for {@code expectedItems} strings,
+     * or for the current size if that is larger, and grows if it is outgrown.
+     *
+     * @param expectedItems is the number of strings the list is expected to hold.
+     */
+    public void enableBloomFilter(int expectedItems) {
+        bloomFilter = new BloomFilter(Math.max(expectedItems, size));
+        bloomFilter.rebuild(this);
+    } // enableBloomFilter
+
+    /**
+     * {@code disableBloomFilter} stops keeping a Bloom filter.
+     */
+    public void disableBloomFilter() {
+        bloomFilter = null;
+    } // disableBloomFilter
+
+    /**
+     * {@code bloomFilter} returns the list's Bloom filter so its counters can
+     * be read.
+     *
+     * @return the Bloom filter, or null when none is kept.
+     */
+    public BloomFilter bloomFilter() {
+        return bloomFilter;
+    } // bloomFilter
+
     /**
      * {@code arrayLengthCheck} checks to see if the array is full or not.
      * If the array is full, then it will add 50% more space to the array.
      */
     private void arrayLengthCheck() {
-        if (size == items.length) {
-            String[] tempArray = new String[items.length];
-            // Temporarily storing elements in items to tempArray
-            for (int i = 0; i < items.length; i++) {
-                tempArray[i] = items[i];
-            } // for
-
-            items = new String[(int) items.length * 2]; // Adds 100% more space to items
+        ensureCapacity(size + 1);
+    } // arrayLengthCheck
 
-            // for loop to assign the established elements to the new items array
-            for (int i = 0; i < tempArray.length; i++) {
-                items[i] = tempArray[i];
-            } // for
+    /**
+     * {@code ensureCapacity} makes sure the array can hold at least
+     * {@code minCapacity} items. The array is doubled until it is large enough,
+     * and the established elements are copied over only once.
+     *
+     * @param minCapacity is the number of items the array must be able to hold.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length) {
+            int newLength = items.length * 2; // Adds 100% more space to items
+            while (newLength < minCapacity) {
+                newLength *= 2;
+            } // while
+            String[] newItems = new String[newLength];
+            System.arraycopy(items, 0, newItems, 0, size);
+            items = newItems;
+            itemsTouched += size;
         } // if
-    } // arrayLengthCheck
+    } // ensureCapacity
 
     /**
      * {@code add} adds an {@code item} to the string list at
@@ -88,21 +157,53 @@ public class ArrayStringList extends BaseStringList {
         // Checking if there is enough space in array
         arrayLengthCheck();
 
-        // Incrementing the size of the string list
-        if (index > size) {
-            size = index;
-        } else {
-            size++;
-        } // if
-
-        for (int i = items.length - 1; i > index; i--) {
-            items[i] = items[i - 1];
-        } // for
+        // Shifting only the items from index up to size one space to the right
+        System.arraycopy(items, index, items, index + 1, size - index);
+        itemsTouched += size - index;
         items[index] = item;
+        size++; // Incrementing the size of the string list
+        modCount++;
+        if (bloomFilter != null) {
+            bloomFilter.add(item);
+        } // if
 
         return true;
     } // add
 
+    /**
+     * {@code add} adds a list of {@code items} to the string list at
+     * the specified index position. The array grows at most once, and the
+     * items after {@code index} are shifted once to make room for all of them.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        // Copying the items first in case items is this list
+        String[] incoming = toArray(items);
+        ensureCapacity(size + incoming.length);
+
+        // Shifting the items after index over by the number of incoming items
+        System.arraycopy(this.items, index, this.items, index + incoming.length, size - index);
+        itemsTouched += size - index;
+        System.arraycopy(incoming, 0, this.items, index, incoming.length);
+        size += incoming.length;
+        modCount++;
+        if (bloomFilter != null) {
+            for (String item : incoming) {
+                bloomFilter.add(item);
+            } // for
+        } // if
+        return incoming.length != 0;
+    } // add
+
     /**
      * {@code clear} removes all items in the string list.
      */
@@ -112,6 +213,10 @@ public class ArrayStringList extends BaseStringList {
             items[i] = "";
         } // for
         size = 0;
+        modCount++;
+        if (bloomFilter != null) {
+            bloomFilter.clear();
+        } // if
     } // clear
 
     /**
@@ -142,63 +247,183 @@ public class ArrayStringList extends BaseStringList {
         } // if
 
         String removedString = items[index];
-        items[index] = ""; // Removing the item
         // Pulling all items after the removed item 1 space to the left
-        String temp = items[index + 1];
-        items[index] = temp;
-        for (int i = index + 1; i < size; i++) {
-            temp = items[i + 1];
-            items[i] = temp;
-        } // for
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        itemsTouched += size - index - 1;
         size--; // Decrements size of string list
+        modCount++;
+        items[size] = ""; // Clearing the slot that was freed at the end
+        if (bloomFilter != null) {
+            bloomFilter.removed();
+        } // if
         return removedString;
     } // remove
 
     /**
-     * {@code slice} slices the StringList from the {@code start} index
-     * (inclusive) to the {@code stop} index (exclusive).
+     * {@code indexOf} finds the first index from {@code start} on whose item is
+     * {@code target}. When a Bloom filter is kept, it is asked first.
      *
-     * @param start is the inclusive starting point of the sliced array.
-     * @param stop is the exclusive ending point of the sliced array.
-     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
-     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     * @return theIndex is the index of the target string, or -1 if it is not found.
      */
     @Override
-    public StringList slice(int start, int stop) {
-
-        ArrayStringList slicedList = new ArrayStringList();
+    public int indexOf(int start, String target) {
+        if (bloomFilter != null && bloomFilter.rejects(this, target)) {
+            return -1;
+        } // if
+        int theIndex = indexOfMatch(start, target::equals);
+        itemsTouched += (theIndex == -1 ? size : theIndex + 1) - Math.min(Math.max(start, 0), size);
+        if (theIndex == -1 && start <= 0 && bloomFilter != null) {
+            bloomFilter.falsePositive();
+        } // if
+        return theIndex;
+    } // indexOf
 
-        // Checking for IndexOutOfBoundsException
-        if (start < 0 || stop > size() || start > stop) {
-            throw new IndexOutOfBoundsException();
+    /**
+     * {@code indexOfMatch} finds the first index from {@code start} on whose
+     * item matches {@code predicate}. Large ranges are searched in parallel; the
+     * search stops as soon as a match is found and every index before it has
+     * been ruled out, so the leftmost match is always returned.
+     *
+     * @param start is the index the search starts from.
+     * @param predicate is the test an item must pass.
+     * @return the index of the first matching item, or -1 if none matches.
+     */
+    public int indexOfMatch(int start, Predicate<String> predicate) {
+        String[] items = this.items;
+        int from = Math.max(start, 0);
+        int to = size;
+        if (to - from < PARALLEL_THRESHOLD) {
+            for (int i = from; i < to; i++) {
+                if (predicate.test(items[i])) {
+                    return i;
+                } // if
+            } // for
+            return -1;
         } // if
+        return IntStream.range(from, to).parallel()
+            .filter(i -> predicate.test(items[i]))
+            .findFirst()
+            .orElse(-1);
+    } // indexOfMatch
 
-        String[] slicedArray = new String[stop - start];
-        // Setting sliced elements into new slicedArray
-        int j = 0;
-        for (int i = start; i < stop; i++) {
-            slicedArray[j] = items[i];
-            j++;
-        } // for
+    /**
+     * {@code count} counts the items that match {@code predicate}, in parallel
+     * for large lists.
+     *
+     * @param predicate is the test an item must pass.
+     * @return the number of matching items.
+     */
+    public int count(Predicate<String> predicate) {
+        String[] items = this.items;
+        int to = size;
+        if (to < PARALLEL_THRESHOLD) {
+            int count = 0;
+            for (int i = 0; i < to; i++) {
+                if (predicate.test(items[i])) {
+                    count++;
+                } // if
+            } // for
+            return count;
+        } // if
+        return (int) Arrays.stream(items, 0, to).parallel().filter(predicate).count();
+    } // count
 
-        // Putting sliced elements back in items array
-        size = stop - start;
-        for (int i = 0; i < size; i++) {
-            items[i] = slicedArray[i];
-        } // for
+    /**
+     * {@code findAll} returns a new list of the items that match
+     * {@code predicate}, in the order they appear in this list. Large lists
+     * are filtered in parallel.
+     *
+     * @param predicate is the test an item must pass.
+     * @return a new list holding every matching item.
+     */
+    public FancyStringList findAll(Predicate<String> predicate) {
+        String[] items = this.items;
+        int to = size;
+        if (to < PARALLEL_THRESHOLD) {
+            String[] found = new String[to];
+            int count = 0;
+            for (int i = 0; i < to; i++) {
+                if (predicate.test(items[i])) {
+                    found[count] = items[i];
+                    count++;
+                } // if
+            } // for
+            return new ArrayStringList(Arrays.copyOf(found, count));
+        } // if
+        String[] found = Arrays.stream(items, 0, to).parallel()
+            .filter(predicate)
+            .toArray(String[]::new);
+        return new ArrayStringList(found);
+    } // findAll
 
-        // Setting any extra elements in items to empty string
-        for (int i = size; i < items.length; i++) {
-            items[i] = "";
-        } // for
+    /**
+     * {@code sort} sorts the backing array in place. Large lists sorted in
+     * natural order use an MSD radix sort; everything else uses
+     * {@link Arrays#sort}, which keeps equal items in order.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void sort(Comparator<? super String> comparator) {
+        if (size >= RADIX_SORT_THRESHOLD && MsdRadixSort.sortsNaturally(comparator)) {
+            MsdRadixSort.sort(items, 0, size);
+        } else {
+            Arrays.sort(items, 0, size, comparator);
+        } // if
+        modCount++;
+    } // sort
 
-        // Copying items elements into slicedList reference objects
-        for (int i = 0; i < size; i++) {
-            slicedList.append(this.get(i));
-        } // for
+    /**
+     * {@code parallelSort} sorts the backing array in place, splitting the
+     * work across the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void parallelSort(Comparator<? super String> comparator) {
+        if (size >= RADIX_SORT_THRESHOLD && MsdRadixSort.sortsNaturally(comparator)) {
+            MsdRadixSort.parallelSort(items, 0, size);
+        } else {
+            Arrays.parallelSort(items, 0, size, comparator);
+        } // if
+        modCount++;
+    } // parallelSort
 
-        return slicedList;
+    /**
+     * {@code applyBatch} works out the edits first and then builds the new
+     * array in one pass, copying each run of kept items with a single
+     * {@code arraycopy} instead of shifting the tail once per edit.
+     *
+     * @param edits is the edits, in the order they are applied.
+     * @throws IndexOutOfBoundsException when an edit's index is out of range.
+     */
+    @Override
+    public void applyBatch(List<Edit> edits) {
+        EditPlan plan = new EditPlan(size, edits);
+        String[] edited = new String[Math.max(100, plan.size())];
+        plan.fill(items, edited);
+        itemsTouched += plan.size();
+        items = edited;
+        size = plan.size();
+        modCount++;
+        if (bloomFilter != null) {
+            bloomFilter.rebuild(this);
+        } // if
+    } // applyBatch
 
+    /**
+     * {@code slice} returns a view of the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive). The view reads from this
+     * list's array, so nothing is copied and this list is left unchanged.
+     *
+     * @param start is the inclusive starting point of the sliced array.
+     * @param stop is the exclusive ending point of the sliced array.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return new StringListView(this, start, stop, 1);
     } // slice
 
     /**
@@ -209,24 +434,18 @@ public class ArrayStringList extends BaseStringList {
      */
     @Override
     public FancyStringList reverse() {
-        // Making new ArrayStringList object to return
-        ArrayStringList reversedList = new ArrayStringList();
-
-        // Setting last item of current list to first item of reversed list
-        // and iterating all the way to when i = 0
-        int j = 0;
-        for (int i = this.size() - 1; i >= 0; i--, j++) {
-            reversedList.arrayLengthCheck();
-            reversedList.items[j] = this.items[i];
-            reversedList.size++;
+        // Filling an array of the exact size and handing it to the new list
+        String[] reversed = new String[size];
+        for (int i = 0; i < size; i++) {
+            reversed[size - 1 - i] = items[i];
         } // for
-        return reversedList;
+        return new ArrayStringList(reversed);
     } // reverse
 
     /**
-     * {@code slice} returns the new {@code FancyStringList} when where the list
-     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
-     * the {@code step} size.
+     * {@code slice} returns a view of the list from where the list starts
+     * (inclusive) to where it stops (exclusive), taking every {@code step}-th
+     * item. The view reads from this list's array, so nothing is copied.
      *
      * @param start is where the sliced list starts (inclusive).
      * @param stop is where the sliced list stops (exclusive).
@@ -236,22 +455,6 @@ public class ArrayStringList extends BaseStringList {
      */
     @Override
     public FancyStringList slice(int start, int stop, int step) {
-        if (start < 0 || stop > size() || start > stop || step < 1) {
-            throw new IndexOutOfBoundsException();
-        } // if
-
-        StringList slicedList = new ArrayStringList();
-        slicedList = this.slice(start, stop); // calling first slice method from start to stop
-
-        ArrayStringList slicedListWithStep = new ArrayStringList();
-
-        for (int i = 0; i < stop - start; i++) {
-            // List gets appended when current index is divixiple by step
-            if (i % step == 0) {
-                slicedListWithStep.append(slicedList.get(i));
-            } // if
-        } // for
-
-        return slicedListWithStep;
+        return new StringListView(this, start, stop, step);
     } // slice
 } // ArrayStringList
@@ -3,15 +3,39 @@ package cs1302.p2;
 import cs1302.adt.StringList;
 import cs1302.adt.FancyStringList;
 import cs1302.adt.Node;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@code BaseStringList} is the abstract class for base String which
- * implements the interface {@link StringList}.
+ * implements the interface {@link StringList}. It can also be iterated
+ * and streamed.
  */
-public abstract class BaseStringList implements FancyStringList {
+public abstract class BaseStringList implements FancyStringList, Iterable<String> {
 
     protected int size;
 
+    // Number of structural changes, used by iterators to fail fast
+    protected int modCount;
+
+    // Number of items walked past or shifted, for lists that count them
+    protected long itemsTouched;
+
     /**
      * Constructor for {@code BaseStringList} objects.
      */
@@ -26,7 +50,7 @@ public abstract class BaseStringList implements FancyStringList {
      */
     @Override
     public boolean append(String item) {
-        boolean appended = add(size, item);
+        boolean appended = add(size(), item);
         return appended;
     } // append
 
@@ -37,7 +61,7 @@ public abstract class BaseStringList implements FancyStringList {
      */
     @Override
     public boolean isEmpty() {
-        if (size == 0) {
+        if (size() == 0) {
             return true;
         } else {
             return false;
@@ -46,6 +70,9 @@ public abstract class BaseStringList implements FancyStringList {
 
     /**
      * {@code makeString} makes a string representation of the string list.
+     * The items are collected in a single pass over the iterator, which also
+     * measures the exact length of the result, so that the characters are
+     * written into a single buffer without any intermediate copies.
      *
      * @param start is the first string in the string list representation.
      * @param sep is the string that separates each string element in the list.
@@ -53,19 +80,59 @@ public abstract class BaseStringList implements FancyStringList {
      */
     @Override
     public String makeString(String start, String sep, String end) {
-        String stringMade = "";
-        stringMade += start;
-
-        if (isEmpty()) {
-            stringMade += end;
-        } else {
-            // for loop that prints each element of the string list separated by sep
-            for (int i = 0; i < size - 1; i++) {
-                stringMade += this.get(i) + sep;
-            } // for
-            stringMade += this.get(size - 1) + end;
+        // Collecting the items and measuring the length of the finished string
+        String[] items = new String[size()];
+        int count = 0;
+        long length = (long) start.length() + end.length();
+        for (String item : this) {
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2 + 1);
+            } // if
+            items[count++] = item;
+            length += item.length();
+        } // for
+        if (count > 1) {
+            length += (long) sep.length() * (count - 1);
         } // if
-        return stringMade;
+
+        StringBuilder stringMade = new StringBuilder((int) Math.min(length, Integer.MAX_VALUE - 8));
+        stringMade.append(start);
+        // for loop that appends each element of the string list separated by sep
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                stringMade.append(sep);
+            } // if
+            stringMade.append(items[i]);
+        } // for
+        stringMade.append(end);
+        return stringMade.toString();
+    } // makeString
+
+    /**
+     * {@code makeString} writes a string representation of the string list
+     * straight to {@code out}, such as a {@code Writer} or {@code StringBuilder},
+     * without building the whole string in memory first. The items are read
+     * in a single pass over the iterator.
+     *
+     * @param out is where the string representation is written.
+     * @param start is the first string in the string list representation.
+     * @param sep is the string that separates each string element in the list.
+     * @param end is the last string in the string list representation.
+     * @throws IOException when {@code out} fails to write.
+     */
+    public void makeString(Appendable out, String start, String sep, String end)
+        throws IOException {
+        out.append(start);
+        boolean first = true;
+        // for loop that writes each element of the string list separated by sep
+        for (String item : this) {
+            if (!first) {
+                out.append(sep);
+            } // if
+            out.append(item);
+            first = false;
+        } // for
+        out.append(end);
     } // makeString
 
     /**
@@ -110,17 +177,58 @@ public abstract class BaseStringList implements FancyStringList {
      */
     @Override
     public boolean add(int index, StringList items) {
+        // Copying the items first in case items is this list
+        String[] incoming = toArray(items);
         // Inserting list of items at the index using for loop
-        int i = 0;
-        int sum = index + items.size();
-        for (int j = index; j < sum; i++) {
-            this.add(j, items.get(i));
-            j++;
+        for (int i = 0; i < incoming.length; i++) {
+            this.add(index + i, incoming[i]);
         } // for
 
-        return !items.isEmpty();
+        return incoming.length != 0;
     } // add
 
+    /**
+     * {@code toArray} copies the items of a StringList into a new array in order.
+     *
+     * @param items is the StringList being copied.
+     * @return an array holding every item of {@code items}.
+     */
+    protected static String[] toArray(StringList items) {
+        String[] copy = new String[items.size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = items.get(i);
+        } // for
+        return copy;
+    } // toArray
+
+    /**
+     * {@code utf8} encodes {@code item} as UTF-8. An item holding an unpaired
+     * surrogate has no UTF-8 form; {@code String.getBytes} would quietly put
+     * {@code '?'} in its place, so it is reported instead. Items without
+     * surrogates take the fast {@code getBytes} path.
+     *
+     * @param item is the string being encoded.
+     * @return the UTF-8 bytes, or null when {@code item} holds an unpaired surrogate.
+     */
+    protected static byte[] utf8(String item) {
+        for (int i = 0; i < item.length(); i++) {
+            if (Character.isSurrogate(item.charAt(i))) {
+                try {
+                    ByteBuffer encoded = StandardCharsets.UTF_8.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT)
+                        .encode(CharBuffer.wrap(item));
+                    byte[] bytes = new byte[encoded.remaining()];
+                    encoded.get(bytes);
+                    return bytes;
+                } catch (CharacterCodingException e) {
+                    return null;
+                } // try
+            } // if
+        } // for
+        return item.getBytes(StandardCharsets.UTF_8);
+    } // utf8
+
     /**
      * {@code append} appends a list of items into the {@code size} index.
      *
@@ -128,11 +236,8 @@ public abstract class BaseStringList implements FancyStringList {
      */
     @Override
     public boolean append(StringList items) {
-        // Inserting list of items at the end of the list using for loop
-        for (int i = 0; i < items.size(); i++) {
-            this.append(items.get(i));
-        } // for
-
+        // Inserting list of items at the end of the list in one bulk add
+        this.add(size(), items);
         return true;
     } // append
 
@@ -147,15 +252,9 @@ public abstract class BaseStringList implements FancyStringList {
         if (!(start >= 0)) {
             return false;
         } else {
-            // Using a for loop starting from the start index
-            // to look for the target String
-            boolean isFound = false;
-            for (int i = start; i < this.size(); i++) {
-                if (target.equals(this.get(i))) {
-                    isFound = true;
-                } // if
-            } // for
-            return isFound;
+            // Looking for the target String from the start index,
+            // stopping at the first match
+            return indexOf(start, target) != -1;
         }
     } // contains
 
@@ -185,12 +284,342 @@ public abstract class BaseStringList implements FancyStringList {
      */
     @Override
     public boolean prepend(StringList items) {
-        // Inserting list of items at the beginning of the list using a for loop
-        for (int i = items.size() - 1; i >= 0; i--) {
-            this.prepend(items.get(i));
-        } // for
-
+        // Inserting list of items at the beginning of the list in one bulk add
+        this.add(0, items);
         return true;
     } // prepend
 
+    /**
+     * {@code sort} sorts the list in place by {@code comparator}, or in
+     * natural order when {@code comparator} is null. Equal items keep their
+     * order. This version copies the items out, sorts the copy and puts it
+     * back with one bulk add; lists that can do better override it.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    public void sort(Comparator<? super String> comparator) {
+        String[] sorted = toArray(this);
+        Arrays.sort(sorted, comparator);
+        clear();
+        add(0, new ArrayStringList(sorted));
+    } // sort
+
+    /**
+     * {@code parallelSort} sorts the list like {@link #sort}, splitting the
+     * work across the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    public void parallelSort(Comparator<? super String> comparator) {
+        String[] sorted = toArray(this);
+        Arrays.parallelSort(sorted, comparator);
+        clear();
+        add(0, new ArrayStringList(sorted));
+    } // parallelSort
+
+    /**
+     * {@code applyBatch} applies {@code edits} in order, each to the list as
+     * the edits before it left it, with the same result as calling
+     * {@code add} and {@code remove} for each one. The edits are worked out
+     * first without touching the list, so if any of them is out of range the
+     * list is left unchanged; then the new contents are built in one pass.
+     * This version puts them back with one bulk add; lists that can do
+     * better override it.
+     *
+     * @param edits is the edits, in the order they are applied.
+     * @throws IndexOutOfBoundsException when an edit's index is out of range.
+     */
+    public void applyBatch(List<Edit> edits) {
+        EditPlan plan = new EditPlan(size(), edits);
+        String[] edited = new String[plan.size()];
+        plan.fill(toArray(this), edited);
+        clear();
+        add(0, new ArrayStringList(edited));
+    } // applyBatch
+
+    /**
+     * {@code reversedView} returns a view of the list in reverse order without
+     * copying it, in O(1). Unlike {@code reverse}, the view reads from this
+     * list, so changing this list while the view is in use makes the view
+     * throw a {@link ConcurrentModificationException}; call
+     * {@link StringListView#materialize} on it for an independent copy.
+     *
+     * @return a reversed view of the list.
+     */
+    public StringListView reversedView() {
+        return StringListView.reversed(this);
+    } // reversedView
+
+    /**
+     * {@code save} writes the list to the file at {@code path} so it can be
+     * opened again as a {@link MappedStringList}.
+     *
+     * @param path is the file being written.
+     * @throws IOException when the file cannot be written or an item holds an
+     * unpaired surrogate.
+     */
+    public void save(Path path) throws IOException {
+        MappedStringList.save(this, path);
+    } // save
+
+    /**
+     * {@code itemsTouched} is the number of items this list has walked past
+     * or shifted so far. Only lists whose cost depends on it count it; it
+     * stays 0 for the others.
+     *
+     * @return the number of items touched so far.
+     */
+    public long itemsTouched() {
+        return itemsTouched;
+    } // itemsTouched
+
+    /**
+     * {@code iterator} returns a fail-fast iterator over the items in the list
+     * from index 0 to the end.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new IndexIterator();
+    } // iterator
+
+    /**
+     * {@code spliterator} returns a fail-fast spliterator over the items in the
+     * list. It splits its index range in half, so the list can be processed
+     * in parallel.
+     *
+     * @return a SIZED, SUBSIZED and ORDERED spliterator over the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return new IndexSpliterator(0, size(), modCount);
+    } // spliterator
+
+    /**
+     * {@code stream} returns a sequential stream of the items in the list.
+     *
+     * @return a sequential stream over the list.
+     */
+    public Stream<String> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    } // stream
+
+    /**
+     * {@code parallelStream} returns a parallel stream of the items in the list.
+     *
+     * @return a parallel stream over the list.
+     */
+    public Stream<String> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    } // parallelStream
+
+    /**
+     * {@code Edit} is one positional change in a batch given to
+     * {@link #applyBatch}: inserting an item at an index, or removing the
+     * item at an index.
+     */
+    public static final class Edit {
+
+        private final boolean insert;
+        private final int index;
+        private final String item;
+
+        /**
+         * Constructs an {@code Edit}.
+         *
+         * @param insert is true for an insert and false for a remove.
+         * @param index is the index the edit applies at.
+         * @param item is the item inserted, or null for a remove.
+         */
+        private Edit(boolean insert, int index, String item) {
+            this.insert = insert;
+            this.index = index;
+            this.item = item;
+        } // Edit
+
+        /**
+         * {@code insert} returns an edit that inserts {@code item} at
+         * {@code index}, like {@code add(index, item)}.
+         *
+         * @param index is the index position where the item is to be inserted.
+         * @param item is the String item that is inserted.
+         * @return the edit.
+         * @throws NullPointerException when {@code item} is null.
+         * @throws IllegalArgumentException when {@code item} is empty.
+         */
+        public static Edit insert(int index, String item) {
+            if (item == null) {
+                throw new NullPointerException();
+            } // if
+
+            if (item.equals("")) {
+                throw new IllegalArgumentException();
+            } // if
+            return new Edit(true, index, item);
+        } // insert
+
+        /**
+         * {@code remove} returns an edit that removes the item at
+         * {@code index}, like {@code remove(index)}.
+         *
+         * @param index is the index of the string that is removed.
+         * @return the edit.
+         */
+        public static Edit remove(int index) {
+            return new Edit(false, index, null);
+        } // remove
+
+        /**
+         * {@code isInsert} checks whether the edit is an insert.
+         *
+         * @return true for an insert and false for a remove.
+         */
+        public boolean isInsert() {
+            return insert;
+        } // isInsert
+
+        /**
+         * {@code index} is the index the edit applies at.
+         *
+         * @return the index.
+         */
+        public int index() {
+            return index;
+        } // index
+
+        /**
+         * {@code item} is the item an insert inserts.
+         *
+         * @return the item, or null for a remove.
+         */
+        public String item() {
+            return item;
+        } // item
+
+        /**
+         * {@code applyTo} makes the edit on {@code list} straight away.
+         *
+         * @param list is the list being changed.
+         */
+        void applyTo(StringList list) {
+            if (insert) {
+                list.add(index, item);
+            } else {
+                list.remove(index);
+            } // if
+        } // applyTo
+
+        /**
+         * {@code toString} describes the edit.
+         *
+         * @return a description such as {@code insert(3, "a")} or {@code remove(3)}.
+         */
+        @Override
+        public String toString() {
+            return insert ? "insert(" + index + ", \"" + item + "\")" : "remove(" + index + ")";
+        } // toString
+
+    } // Edit
+
+    /**
+     * {@code IndexIterator} walks the list by calling {@code get} with
+     * increasing indices.
+     */
+    private class IndexIterator implements Iterator<String> {
+
+        private int next = 0;
+        private final int fence = size();
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < fence;
+        } // hasNext
+
+        @Override
+        public String next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            } // if
+            if (next >= fence) {
+                throw new NoSuchElementException();
+            } // if
+            String item = get(next);
+            next++;
+            return item;
+        } // next
+
+    } // IndexIterator
+
+    /**
+     * {@code IndexSpliterator} covers the indices from {@code origin}
+     * (inclusive) to {@code fence} (exclusive) and reads them with {@code get}.
+     */
+    private class IndexSpliterator implements Spliterator<String> {
+
+        private int origin;
+        private final int fence;
+        private final int expectedModCount;
+
+        /**
+         * Constructs an {@code IndexSpliterator} over a range of indices.
+         *
+         * @param origin is the first index covered (inclusive).
+         * @param fence is the last index covered (exclusive).
+         * @param expectedModCount is the modCount when the spliterator was made.
+         */
+        IndexSpliterator(int origin, int fence, int expectedModCount) {
+            this.origin = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        } // IndexSpliterator
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            } // if
+            if (origin >= fence) {
+                return false;
+            } // if
+            action.accept(get(origin));
+            origin++;
+            return true;
+        } // tryAdvance
+
+        @Override
+        public void forEachRemaining(Consumer<? super String> action) {
+            for (; origin < fence; origin++) {
+                action.accept(get(origin));
+            } // for
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            } // if
+        } // forEachRemaining
+
+        @Override
+        public Spliterator<String> trySplit() {
+            int middle = (origin + fence) >>> 1;
+            if (middle <= origin) {
+                return null;
+            } // if
+            // Handing the first half to the new spliterator
+            Spliterator<String> prefix = new IndexSpliterator(origin, middle, expectedModCount);
+            origin = middle;
+            return prefix;
+        } // trySplit
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        } // estimateSize
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        } // characteristics
+
+    } // IndexSpliterator
+
 } // BaseStringList
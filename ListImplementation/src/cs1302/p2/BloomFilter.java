@@ -0,0 +1,219 @@
+package cs1302.p2;
+
+import java.util.Arrays;
+
+/**
+ * {@code BloomFilter} is an optional sidecar that a list keeps next to its
+ * items so that a lookup for a string that is not in the list can return
+ * without scanning. A filter answers "definitely not there" or "maybe there";
+ * only the second answer needs a scan, and it is wrong (a false positive) for
+ * a small fraction of strings that are not in the list.
+ *
+ * <p>
+ * Strings are added as the list grows. A Bloom filter cannot forget a string,
+ * so removals only make the filter less selective; once a quarter of the
+ * strings it holds have been removed, or the list has grown past the size the
+ * filter was made for, it is rebuilt from the list on the next lookup.
+ *
+ * <p>
+ * The filter counts how many lookups it rejected and how many of the lookups
+ * it let through found nothing, so its false-positive rate can be checked
+ * against the workload and the filter resized with a better expected size.
+ */
+public class BloomFilter {
+
+    /** Bits kept for every string the filter is sized for. */
+    private static final int BITS_PER_ITEM = 10;
+
+    /** Bits set for every string; with 10 bits per item this is about 1% false positives. */
+    private static final int HASHES = 7;
+
+    private long[] bits;
+    private int mask;
+    private int capacity;
+    private int added;
+    private int removed;
+
+    private long lookups;
+    private long rejections;
+    private long falsePositives;
+
+    /**
+     * Constructs an empty {@code BloomFilter} sized for {@code expectedItems}
+     * strings.
+     *
+     * @param expectedItems is the number of strings the filter should hold.
+     */
+    BloomFilter(int expectedItems) {
+        resize(expectedItems);
+    } // BloomFilter
+
+    /**
+     * {@code resize} allocates an empty bit array for {@code expectedItems}
+     * strings, rounded up to a power of two bits.
+     *
+     * @param expectedItems is the number of strings the filter should hold.
+     */
+    private void resize(int expectedItems) {
+        capacity = Math.max(expectedItems, 16);
+        int bitCount = Integer.highestOneBit(capacity * BITS_PER_ITEM - 1) << 1;
+        bits = new long[bitCount >>> 6];
+        mask = bitCount - 1;
+    } // resize
+
+    /**
+     * {@code mix} scrambles a hash code so that every bit of it depends on
+     * every bit of the input.
+     *
+     * @param hash is the hash code being mixed.
+     * @return the mixed hash code.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    } // mix
+
+    /**
+     * {@code add} sets the bits of {@code item}.
+     *
+     * @param item is the string added to the list.
+     */
+    void add(String item) {
+        int hash = item.hashCode();
+        int first = mix(hash);
+        int second = mix(hash ^ 0x9e3779b9) | 1; // odd, so the probes never repeat
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (first + i * second) & mask;
+            bits[bit >>> 6] |= 1L << bit;
+        } // for
+        added++;
+    } // add
+
+    /**
+     * {@code mightContain} checks whether every bit of {@code item} is set.
+     *
+     * @param item is the string being looked up.
+     * @return false when {@code item} was definitely never added.
+     */
+    private boolean mightContain(String item) {
+        int hash = item.hashCode();
+        int first = mix(hash);
+        int second = mix(hash ^ 0x9e3779b9) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (first + i * second) & mask;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            } // if
+        } // for
+        return true;
+    } // mightContain
+
+    /**
+     * {@code removed} records that a string was removed from the list.
+     */
+    void removed() {
+        removed++;
+    } // removed
+
+    /**
+     * {@code clear} empties the filter, keeping its size and its counters.
+     */
+    void clear() {
+        Arrays.fill(bits, 0L);
+        added = 0;
+        removed = 0;
+    } // clear
+
+    /**
+     * {@code rebuild} empties the filter and adds every item of {@code list},
+     * growing the filter first if the list no longer fits.
+     *
+     * @param list is the list the filter belongs to.
+     */
+    void rebuild(BaseStringList list) {
+        if (list.size() > capacity) {
+            resize(list.size() * 2);
+        } else {
+            Arrays.fill(bits, 0L);
+        } // if
+        added = 0;
+        removed = 0;
+        for (String item : list) {
+            add(item);
+        } // for
+    } // rebuild
+
+    /**
+     * {@code rejects} checks whether {@code target} is definitely not in
+     * {@code list}, rebuilding the filter first if it has gone stale.
+     *
+     * @param list is the list the filter belongs to.
+     * @param target is the string being looked up.
+     * @return true when the lookup can return without scanning.
+     */
+    boolean rejects(BaseStringList list, String target) {
+        if (removed * 4 > added || added > capacity) {
+            rebuild(list);
+        } // if
+        lookups++;
+        if (!mightContain(target)) {
+            rejections++;
+            return true;
+        } // if
+        return false;
+    } // rejects
+
+    /**
+     * {@code falsePositive} records that a lookup the filter let through
+     * scanned the whole list without finding its target.
+     */
+    void falsePositive() {
+        falsePositives++;
+    } // falsePositive
+
+    /**
+     * {@code lookups} is the number of lookups the filter has answered.
+     *
+     * @return the number of lookups.
+     */
+    public long lookups() {
+        return lookups;
+    } // lookups
+
+    /**
+     * {@code rejections} is the number of lookups answered without a scan.
+     *
+     * @return the number of rejected lookups.
+     */
+    public long rejections() {
+        return rejections;
+    } // rejections
+
+    /**
+     * {@code falsePositives} is the number of lookups the filter let through
+     * that scanned the whole list and found nothing.
+     *
+     * @return the number of false positives.
+     */
+    public long falsePositives() {
+        return falsePositives;
+    } // falsePositives
+
+    /**
+     * {@code falsePositiveRate} is the share of lookups for missing strings
+     * that the filter failed to reject. Lookups that start past index 0 are
+     * only counted when the filter rejects them, since a miss after index 0
+     * does not show whether the string is elsewhere in the list.
+     *
+     * @return the observed false-positive rate, or 0 before any miss.
+     */
+    public double falsePositiveRate() {
+        long misses = rejections + falsePositives;
+        return misses == 0 ? 0.0 : (double) falsePositives / misses;
+    } // falsePositiveRate
+
+} // BloomFilter
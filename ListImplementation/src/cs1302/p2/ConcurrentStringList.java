@@ -0,0 +1,573 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@code ConcurrentStringList} is a child class of {@link BaseStringList}
+ * that can be shared between threads. Its items are kept in an array guarded
+ * by a {@link StampedLock}.
+ *
+ * <p>
+ * Reads ({@code get}, {@code size}, {@code contains}, {@code indexOf}) first
+ * run optimistically without taking any lock and only fall back to a read
+ * lock if a write happened while they were reading. Writes take the write
+ * lock. Operations that look at the whole list, such as {@code makeString},
+ * {@code slice}, {@code reverse} and iteration, work on a consistent copy of
+ * the items taken at one moment.
+ */
+public class ConcurrentStringList extends BaseStringList implements RandomAccess {
+
+    private final StampedLock lock = new StampedLock();
+    private String[] items;
+
+    /**
+     * Constructor to be able to instantiate {@code ConcurrentStringList} objects.
+     */
+    public ConcurrentStringList() {
+        items = new String[100];
+        size = 0;
+    } // ConcurrentStringList
+
+    /**
+     * Copy constructor of {@code ConcurrentStringList} objects so it can create
+     * deep copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public ConcurrentStringList(StringList other) {
+        String[] copiedItems = other instanceof ConcurrentStringList
+            ? ((ConcurrentStringList) other).snapshot()
+            : toArray(other);
+        items = Arrays.copyOf(copiedItems, Math.max(100, copiedItems.length));
+        size = copiedItems.length;
+    } // ConcurrentStringList
+
+    /**
+     * Constructs a {@code ConcurrentStringList} that takes over a filled array.
+     *
+     * @param items is the array of items.
+     * @param size is the number of items in use.
+     */
+    private ConcurrentStringList(String[] items, int size) {
+        this.items = items;
+        this.size = size;
+    } // ConcurrentStringList
+
+    /**
+     * {@code snapshot} copies the items in the list at one moment.
+     *
+     * @return an array holding every item in the list.
+     */
+    private String[] snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        String[] currentItems = items;
+        int currentSize = size;
+        String[] copy = null;
+        if (currentSize <= currentItems.length) {
+            copy = Arrays.copyOf(currentItems, currentSize);
+        } // if
+        if (copy != null && lock.validate(stamp)) {
+            return copy;
+        } // if
+
+        // A write happened while copying, so copying again under the read lock
+        stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(items, size);
+        } finally {
+            lock.unlockRead(stamp);
+        } // try
+    } // snapshot
+
+    /**
+     * {@code checkItem} checks that an {@code item} is allowed in the list.
+     *
+     * @param item is the String item that is checked.
+     * @throws NullPointerException when the item is null.
+     * @throws IllegalArgumentException when the item is the empty string.
+     */
+    private static void checkItem(String item) {
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+    } // checkItem
+
+    /**
+     * {@code insert} inserts items while the write lock is held.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param incoming is the items that are inserted.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    private void insert(int index, String[] incoming) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (size + incoming.length > items.length) {
+            int newLength = items.length * 2;
+            while (newLength < size + incoming.length) {
+                newLength *= 2;
+            } // while
+            items = Arrays.copyOf(items, newLength);
+        } // if
+        System.arraycopy(items, index, items, index + incoming.length, size - index);
+        System.arraycopy(incoming, 0, items, index, incoming.length);
+        size += incoming.length;
+        modCount++;
+    } // insert
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        checkItem(item);
+        long stamp = lock.writeLock();
+        try {
+            insert(index, new String[] {item});
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+        return true;
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} to the string list at
+     * the specified index position, all under one write lock.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        String[] incoming = items instanceof ConcurrentStringList
+            ? ((ConcurrentStringList) items).snapshot()
+            : toArray(items);
+        long stamp = lock.writeLock();
+        try {
+            insert(index, incoming);
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+        return incoming.length != 0;
+    } // add
+
+    /**
+     * {@code append} appends an item at the end of the list. The end is found
+     * under the write lock, so concurrent appends never land out of order.
+     *
+     * @param item is the item being appended.
+     */
+    @Override
+    public boolean append(String item) {
+        checkItem(item);
+        long stamp = lock.writeLock();
+        try {
+            insert(size, new String[] {item});
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+        return true;
+    } // append
+
+    /**
+     * {@code append} appends a list of items at the end of the list, all
+     * under one write lock.
+     *
+     * @param items is the list of items being appended.
+     */
+    @Override
+    public boolean append(StringList items) {
+        String[] incoming = items instanceof ConcurrentStringList
+            ? ((ConcurrentStringList) items).snapshot()
+            : toArray(items);
+        long stamp = lock.writeLock();
+        try {
+            insert(size, incoming);
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+        return true;
+    } // append
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(items, 0, size, null);
+            size = 0;
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list without locking unless a
+     * write happens at the same time.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        String[] currentItems = items;
+        int currentSize = size;
+        String item = null;
+        if (index >= 0 && index < currentSize && index < currentItems.length) {
+            item = currentItems[index];
+        } // if
+        if (lock.validate(stamp)) {
+            if (item == null) {
+                throw new IndexOutOfBoundsException();
+            } // if
+            return item;
+        } // if
+
+        stamp = lock.readLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            } // if
+            return items[index];
+        } finally {
+            lock.unlockRead(stamp);
+        } // try
+    } // get
+
+    /**
+     * {@code isEmpty} checks to see whether the list is empty or not.
+     *
+     * @return true if the string list has no items
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    } // isEmpty
+
+    /**
+     * {@code size} is the size of the string list.
+     *
+     * @return size is the current size of the list.
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (lock.validate(stamp)) {
+            return currentSize;
+        } // if
+
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        } // try
+    } // size
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            } // if
+            String removedString = items[index];
+            System.arraycopy(items, index + 1, items, index, size - index - 1);
+            size--;
+            items[size] = null;
+            modCount++;
+            return removedString;
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+    } // remove
+
+    /**
+     * {@code contains} looks for a {@code target} string in the StringList
+     * starting from the {@code start} index.
+     *
+     * @return true when the {@code target} is found in the list.
+     */
+    @Override
+    public boolean contains(int start, String target) {
+        return start >= 0 && indexOf(start, target) != -1;
+    } // contains
+
+    /**
+     * {@code indexOf} scans for {@code target} from {@code start} without
+     * locking, and scans again under the read lock only if a write happened
+     * during the first scan.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        long stamp = lock.tryOptimisticRead();
+        int theIndex = scan(items, size, start, target);
+        if (lock.validate(stamp)) {
+            return theIndex;
+        } // if
+
+        stamp = lock.readLock();
+        try {
+            return scan(items, size, start, target);
+        } finally {
+            lock.unlockRead(stamp);
+        } // try
+    } // indexOf
+
+    /**
+     * {@code scan} finds the first index from {@code start} on whose item is
+     * {@code target}. It never reads outside of {@code array}, even if the
+     * array and size are out of date.
+     *
+     * @param array is the items array.
+     * @param count is the number of items in use.
+     * @param start is the first index looked at.
+     * @param target is the string being looked for.
+     * @return the index of the target, or -1 if it is not found.
+     */
+    private static int scan(String[] array, int count, int start, String target) {
+        int stop = Math.min(count, array.length);
+        for (int i = Math.max(start, 0); i < stop; i++) {
+            if (target.equals(array[i])) {
+                return i;
+            } // if
+        } // for
+        return -1;
+    } // scan
+
+    /**
+     * {@code makeString} makes a string representation of the list as it was
+     * at one moment.
+     *
+     * @param start is the first string in the string list representation.
+     * @param sep is the string that separates each string element in the list.
+     * @param end is the last string in the string list representation.
+     */
+    @Override
+    public String makeString(String start, String sep, String end) {
+        return start + String.join(sep, snapshot()) + end;
+    } // makeString
+
+    /**
+     * {@code makeString} writes a string representation of the list as it was
+     * at one moment straight to {@code out}.
+     *
+     * @param out is where the string representation is written.
+     * @param start is the first string in the string list representation.
+     * @param sep is the string that separates each string element in the list.
+     * @param end is the last string in the string list representation.
+     * @throws IOException when {@code out} fails to write.
+     */
+    @Override
+    public void makeString(Appendable out, String start, String sep, String end)
+        throws IOException {
+        String[] copy = snapshot();
+        out.append(start);
+        for (int i = 0; i < copy.length; i++) {
+            if (i > 0) {
+                out.append(sep);
+            } // if
+            out.append(copy[i]);
+        } // for
+        out.append(end);
+    } // makeString
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list as it was
+     * at one moment.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        String[] copy = snapshot();
+        String[] reversed = new String[Math.max(100, copy.length)];
+        for (int i = 0; i < copy.length; i++) {
+            reversed[i] = copy[copy.length - 1 - i];
+        } // for
+        return new ConcurrentStringList(reversed, copy.length);
+    } // reverse
+
+    /**
+     * {@code reversedView} returns a reversed view of the list as it was at
+     * one moment. The view reads from a snapshot of the items, since other
+     * threads may be changing the list itself.
+     *
+     * @return a reversed view of a snapshot of the list.
+     */
+    @Override
+    public StringListView reversedView() {
+        return new ArrayStringList(snapshot()).reversedView();
+    } // reversedView
+
+    /**
+     * {@code applyBatch} applies {@code edits} under one write lock, building
+     * the new array in one pass, so other threads see either none of the
+     * edits or all of them.
+     *
+     * @param edits is the edits, in the order they are applied.
+     * @throws IndexOutOfBoundsException when an edit's index is out of range.
+     */
+    @Override
+    public void applyBatch(List<Edit> edits) {
+        long stamp = lock.writeLock();
+        try {
+            EditPlan plan = new EditPlan(size, edits);
+            String[] edited = new String[Math.max(100, plan.size())];
+            plan.fill(items, edited);
+            items = edited;
+            size = plan.size();
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+    } // applyBatch
+
+    /**
+     * {@code sort} sorts the items in place under the write lock, so items
+     * added by other threads are never lost and readers see either the old
+     * order or the new one.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void sort(Comparator<? super String> comparator) {
+        long stamp = lock.writeLock();
+        try {
+            if (size >= ArrayStringList.RADIX_SORT_THRESHOLD
+                && MsdRadixSort.sortsNaturally(comparator)) {
+                MsdRadixSort.sort(items, 0, size);
+            } else {
+                Arrays.sort(items, 0, size, comparator);
+            } // if
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+    } // sort
+
+    /**
+     * {@code parallelSort} sorts the items in place under the write lock,
+     * splitting the work across the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void parallelSort(Comparator<? super String> comparator) {
+        long stamp = lock.writeLock();
+        try {
+            if (size >= ArrayStringList.RADIX_SORT_THRESHOLD
+                && MsdRadixSort.sortsNaturally(comparator)) {
+                MsdRadixSort.parallelSort(items, 0, size);
+            } else {
+                Arrays.parallelSort(items, 0, size, comparator);
+            } // if
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        } // try
+    } // parallelSort
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        String[] copy = snapshot();
+        if (start < 0 || stop > copy.length || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        String[] sliced = new String[Math.max(100, (stop - start + step - 1) / step)];
+        int j = 0;
+        for (int i = start; i < stop; i += step, j++) {
+            sliced[j] = copy[i];
+        } // for
+        return new ConcurrentStringList(sliced, j);
+    } // slice
+
+    /**
+     * {@code iterator} returns an iterator over the list as it was when the
+     * iterator was made. It never throws
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @return an iterator over a snapshot of the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return Arrays.asList(snapshot()).iterator();
+    } // iterator
+
+    /**
+     * {@code spliterator} returns a spliterator over the list as it was when
+     * the spliterator was made.
+     *
+     * @return a SIZED, SUBSIZED, ORDERED and IMMUTABLE spliterator.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.NONNULL
+            | Spliterator.IMMUTABLE);
+    } // spliterator
+
+} // ConcurrentStringList
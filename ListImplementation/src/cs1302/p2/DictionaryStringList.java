@@ -0,0 +1,276 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.RandomAccess;
+
+/**
+ * {@code DictionaryStringList} is a child class of {@link BaseStringList} for
+ * lists that repeat a small number of distinct strings many times. Each
+ * distinct string is stored once in a dictionary and given an {@code int}
+ * code, and the list itself is an {@code int} array of codes.
+ *
+ * <p>
+ * {@code contains} and {@code indexOf} look the target up in the dictionary
+ * once and then scan the codes, so a string that was never added is rejected
+ * without looking at the list at all. Lists made from this one by
+ * {@code slice} and {@code reverse} share its dictionary.
+ */
+public class DictionaryStringList extends BaseStringList implements RandomAccess {
+
+    /**
+     * {@code Dictionary} gives every distinct string a code. Codes are never
+     * reused, so lists sharing a dictionary always agree on what a code means.
+     */
+    private static class Dictionary {
+
+        private String[] values = new String[16];
+        private int count = 0;
+        private final HashMap<String, Integer> codes = new HashMap<>();
+
+        /**
+         * {@code codeOf} returns the code of {@code value}, giving it a new code
+         * if it has not been seen before.
+         *
+         * @param value is the string being encoded.
+         * @return the code of {@code value}.
+         */
+        int codeOf(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                } // if
+                code = count;
+                values[count] = value;
+                count++;
+                codes.put(value, code);
+            } // if
+            return code;
+        } // codeOf
+
+        /**
+         * {@code find} returns the code of {@code value} without adding it.
+         *
+         * @param value is the string being looked up.
+         * @return the code of {@code value}, or -1 if it has no code.
+         */
+        int find(String value) {
+            Integer code = codes.get(value);
+            return code == null ? -1 : code;
+        } // find
+
+    } // Dictionary
+
+    private final Dictionary dictionary;
+    private int[] codes;
+
+    /**
+     * Constructor to be able to instantiate {@code DictionaryStringList} objects.
+     */
+    public DictionaryStringList() {
+        this(new Dictionary());
+    } // DictionaryStringList
+
+    /**
+     * Copy constructor of {@code DictionaryStringList} objects so it can create
+     * deep copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public DictionaryStringList(StringList other) {
+        this();
+        codes = new int[Math.max(100, other.size())];
+        for (int i = 0; i < other.size(); i++) {
+            this.append(other.get(i));
+        } // for
+    } // DictionaryStringList
+
+    /**
+     * Constructs an empty {@code DictionaryStringList} that uses an existing
+     * dictionary.
+     *
+     * @param dictionary is the dictionary shared with other lists.
+     */
+    private DictionaryStringList(Dictionary dictionary) {
+        this.dictionary = dictionary;
+        this.codes = new int[100];
+        this.size = 0;
+    } // DictionaryStringList
+
+    /**
+     * {@code ensureCapacity} makes sure the code array can hold at least
+     * {@code minCapacity} items.
+     *
+     * @param minCapacity is the number of items the array must be able to hold.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(minCapacity, codes.length * 2));
+        } // if
+    } // ensureCapacity
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+
+        ensureCapacity(size + 1);
+        System.arraycopy(codes, index, codes, index + 1, size - index);
+        codes[index] = dictionary.codeOf(item);
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list. The dictionary keeps
+     * its strings.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return dictionary.values[codes[index]];
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        String removedString = get(index);
+        System.arraycopy(codes, index + 1, codes, index, size - index - 1);
+        size--;
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code contains} looks for a {@code target} string in the StringList
+     * starting from the {@code start} index.
+     *
+     * @return true when the {@code target} is found in the list.
+     */
+    @Override
+    public boolean contains(int start, String target) {
+        return start >= 0 && indexOf(start, target) != -1;
+    } // contains
+
+    /**
+     * {@code indexOf} looks up the code of {@code target} once and then scans
+     * the codes from {@code start} for it.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        int code = dictionary.find(target);
+        if (code == -1) {
+            return -1;
+        } // if
+        for (int i = Math.max(start, 0); i < size; i++) {
+            if (codes[i] == code) {
+                return i;
+            } // if
+        } // for
+        return -1;
+    } // indexOf
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list. The new
+     * list shares this list's dictionary, so only codes are copied.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        DictionaryStringList reversedList = new DictionaryStringList(dictionary);
+        reversedList.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            reversedList.codes[i] = codes[size - 1 - i];
+        } // for
+        reversedList.size = size;
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size. The new list shares this list's dictionary.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        DictionaryStringList slicedList = new DictionaryStringList(dictionary);
+        slicedList.ensureCapacity((stop - start + step - 1) / step);
+        int j = 0;
+        for (int i = start; i < stop; i += step, j++) {
+            slicedList.codes[j] = codes[i];
+        } // for
+        slicedList.size = j;
+        return slicedList;
+    } // slice
+
+} // DictionaryStringList
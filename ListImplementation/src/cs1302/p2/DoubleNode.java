@@ -0,0 +1,91 @@
+package cs1302.p2;
+
+/**
+ * {@code DoubleNode} is a node for a doubly linked list. Unlike
+ * {@link cs1302.adt.Node}, it keeps a reference to the previous node as
+ * well as the next one so that a list can be walked in either direction.
+ */
+public class DoubleNode {
+
+    private String item;
+    private DoubleNode prev;
+    private DoubleNode next;
+
+    /**
+     * Constructs a {@code DoubleNode} holding {@code item} with no neighbours.
+     *
+     * @param item is the item stored in the node.
+     */
+    public DoubleNode(String item) {
+        this(null, item, null);
+    } // DoubleNode
+
+    /**
+     * Constructs a {@code DoubleNode} holding {@code item} between {@code prev}
+     * and {@code next}.
+     *
+     * @param prev is the node before this node.
+     * @param item is the item stored in the node.
+     * @param next is the node after this node.
+     */
+    public DoubleNode(DoubleNode prev, String item, DoubleNode next) {
+        this.prev = prev;
+        this.item = item;
+        this.next = next;
+    } // DoubleNode
+
+    /**
+     * {@code getItem} returns the item stored in the node.
+     *
+     * @return the item stored in the node.
+     */
+    public String getItem() {
+        return item;
+    } // getItem
+
+    /**
+     * {@code setItem} sets the item stored in the node.
+     *
+     * @param item is the new item.
+     */
+    public void setItem(String item) {
+        this.item = item;
+    } // setItem
+
+    /**
+     * {@code getPrev} returns the node before this node.
+     *
+     * @return the previous node, or null if there is none.
+     */
+    public DoubleNode getPrev() {
+        return prev;
+    } // getPrev
+
+    /**
+     * {@code setPrev} sets the node before this node.
+     *
+     * @param prev is the new previous node.
+     */
+    public void setPrev(DoubleNode prev) {
+        this.prev = prev;
+    } // setPrev
+
+    /**
+     * {@code getNext} returns the node after this node.
+     *
+     * @return the next node, or null if there is none.
+     */
+    public DoubleNode getNext() {
+        return next;
+    } // getNext
+
+    /**
+     * {@code setNext} sets the node after this node.
+     *
+     * @param next is the new next node.
+     */
+    public void setNext(DoubleNode next) {
+        this.next = next;
+    } // setNext
+
+} // DoubleNode
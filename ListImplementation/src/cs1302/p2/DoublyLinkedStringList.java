@@ -0,0 +1,287 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * {@code DoublyLinkedStringList} is a child class of {@link BaseStringList}
+ * that stores its strings in {@link DoubleNode}s linked in both directions.
+ * It keeps both a head and a tail, and every lookup by index walks from
+ * whichever end is closer.
+ */
+public class DoublyLinkedStringList extends BaseStringList {
+
+    private DoubleNode head;
+    private DoubleNode tail;
+
+    /**
+     * Constructor to be able to instantiate {@code DoublyLinkedStringList} objects.
+     */
+    public DoublyLinkedStringList() {
+        head = null;
+        tail = null;
+        size = 0;
+    } // DoublyLinkedStringList
+
+    /**
+     * Copy constructor of {@code DoublyLinkedStringList} objects so it can create
+     * deep copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public DoublyLinkedStringList(StringList other) {
+        this();
+        for (int i = 0; i < other.size(); i++) {
+            this.append(other.get(i));
+        } // for
+    } // DoublyLinkedStringList
+
+    /**
+     * {@code nodeAt} returns the node at a valid {@code index}, walking forward
+     * from the head or backward from the tail, whichever is closer.
+     *
+     * @param index is the index of the node that is returned.
+     * @return the node at that index.
+     */
+    private DoubleNode nodeAt(int index) {
+        DoubleNode targetNode;
+        if (index < size / 2) {
+            targetNode = head;
+            for (int i = 0; i < index; i++) {
+                targetNode = targetNode.getNext();
+            } // for
+        } else {
+            targetNode = tail;
+            for (int i = size - 1; i > index; i--) {
+                targetNode = targetNode.getPrev();
+            } // for
+        } // if
+        return targetNode;
+    } // nodeAt
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+
+        if (index == size) {
+            // Linking the new node after the tail
+            DoubleNode newNode = new DoubleNode(tail, item, null);
+            if (tail == null) {
+                head = newNode;
+            } else {
+                tail.setNext(newNode);
+            } // if
+            tail = newNode;
+        } else {
+            // Linking the new node in front of the node currently at index
+            DoubleNode nextNode = nodeAt(index);
+            DoubleNode newNode = new DoubleNode(nextNode.getPrev(), item, nextNode);
+            if (nextNode.getPrev() == null) {
+                head = newNode;
+            } else {
+                nextNode.getPrev().setNext(newNode);
+            } // if
+            nextNode.setPrev(newNode);
+        } // if
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return nodeAt(index).getItem();
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. The nodes on either side of the removed node are
+     * linked to each other.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        DoubleNode removeNode = nodeAt(index);
+        DoubleNode precedingNode = removeNode.getPrev();
+        DoubleNode followingNode = removeNode.getNext();
+
+        if (precedingNode == null) {
+            head = followingNode;
+        } else {
+            precedingNode.setNext(followingNode);
+        } // if
+
+        if (followingNode == null) {
+            tail = precedingNode;
+        } else {
+            followingNode.setPrev(precedingNode);
+        } // if
+
+        // Unlinking the removed node from its old neighbours
+        removeNode.setPrev(null);
+        removeNode.setNext(null);
+        size--;
+        modCount++;
+        return removeNode.getItem();
+    } // remove
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list. The list
+     * is read once from the tail back to the head.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        DoublyLinkedStringList reversedList = new DoublyLinkedStringList();
+        for (DoubleNode node = tail; node != null; node = node.getPrev()) {
+            reversedList.append(node.getItem());
+        } // for
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        DoublyLinkedStringList slicedList = new DoublyLinkedStringList();
+        if (start == stop) {
+            return slicedList;
+        } // if
+
+        // Walking from the start node once, taking every step-th item
+        DoubleNode node = nodeAt(start);
+        for (int i = start; i < stop; i++) {
+            if ((i - start) % step == 0) {
+                slicedList.append(node.getItem());
+            } // if
+            node = node.getNext();
+        } // for
+        return slicedList;
+    } // slice
+
+    /**
+     * {@code iterator} returns a fail-fast iterator that walks the nodes from the head.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private DoubleNode current = head;
+            private int remaining = size;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            } // hasNext
+
+            @Override
+            public String next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } // if
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                } // if
+                String nextItem = current.getItem();
+                current = current.getNext();
+                remaining--;
+                return nextItem;
+            } // next
+        };
+    } // iterator
+
+    /**
+     * {@code spliterator} returns a spliterator over the items in the list.
+     * Splitting copies batches from the iterator into arrays, so parallel
+     * streams never have to index into the chain.
+     *
+     * @return a SIZED and ORDERED spliterator over the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
+
+} // DoublyLinkedStringList
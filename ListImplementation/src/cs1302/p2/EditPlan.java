@@ -0,0 +1,223 @@
+package cs1302.p2;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code EditPlan} works out what a list looks like after a batch of
+ * positional edits without touching the list. The result is kept as a
+ * sequence of pieces, each either a run of consecutive items from the
+ * original list or one inserted item. Every edit splits at most one piece,
+ * so {@code k} edits make at most {@code 2k + 1} pieces and cost
+ * O(k) each, however long the list is.
+ *
+ * <p>
+ * Edits are applied in the order given, each to the list as the edits
+ * before it left it, which is exactly what calling {@code add} and
+ * {@code remove} one by one would do. The runs of original items stay in
+ * their original order, so a list can then build its new contents in a
+ * single pass over its old ones.
+ */
+final class EditPlan {
+
+    // Piece i is the original items from[i] (inclusive) to to[i] (exclusive),
+    // or the inserted item[i] when that is not null
+    private int[] from = new int[8];
+    private int[] to = new int[8];
+    private String[] item = new String[8];
+    private int pieces;
+    private int size;
+
+    /**
+     * Constructs the plan for applying {@code edits} to a list of
+     * {@code size} items.
+     *
+     * @param size is the number of items in the list before the edits.
+     * @param edits is the edits, in the order they are applied.
+     * @throws IndexOutOfBoundsException when an edit's index is out of range
+     * for the list as the edits before it left it.
+     */
+    EditPlan(int size, List<BaseStringList.Edit> edits) {
+        if (size > 0) {
+            insertPiece(0, 0, size, null);
+        } // if
+        this.size = size;
+        for (BaseStringList.Edit edit : edits) {
+            if (edit.isInsert()) {
+                insert(edit.index(), edit.item());
+            } else {
+                remove(edit.index());
+            } // if
+        } // for
+    } // EditPlan
+
+    /**
+     * {@code size} is the number of items in the list after the edits.
+     *
+     * @return the number of items after the edits.
+     */
+    int size() {
+        return size;
+    } // size
+
+    /**
+     * {@code pieces} is the number of pieces the edited list is made of.
+     *
+     * @return the number of pieces.
+     */
+    int pieces() {
+        return pieces;
+    } // pieces
+
+    /**
+     * {@code from} is the index in the original list of the first item of
+     * piece {@code i}, if it is a run of original items.
+     *
+     * @param i is the number of the piece.
+     * @return the first original index of the run.
+     */
+    int from(int i) {
+        return from[i];
+    } // from
+
+    /**
+     * {@code to} is one past the index in the original list of the last
+     * item of piece {@code i}, if it is a run of original items.
+     *
+     * @param i is the number of the piece.
+     * @return one past the last original index of the run.
+     */
+    int to(int i) {
+        return to[i];
+    } // to
+
+    /**
+     * {@code item} is the inserted item of piece {@code i}.
+     *
+     * @param i is the number of the piece.
+     * @return the inserted item, or null if the piece is a run of original items.
+     */
+    String item(int i) {
+        return item[i];
+    } // item
+
+    /**
+     * {@code fill} writes the edited list into {@code result}, reading the
+     * original items from {@code original}.
+     *
+     * @param original is the items before the edits, from index 0.
+     * @param result is where the items after the edits are written, from index 0.
+     */
+    void fill(String[] original, String[] result) {
+        int j = 0;
+        for (int i = 0; i < pieces; i++) {
+            if (item[i] != null) {
+                result[j++] = item[i];
+            } else {
+                System.arraycopy(original, from[i], result, j, to[i] - from[i]);
+                j += to[i] - from[i];
+            } // if
+        } // for
+    } // fill
+
+    /**
+     * {@code insertPiece} puts a new piece in at position {@code i}.
+     *
+     * @param i is where the piece goes.
+     * @param start is the first original index of a run.
+     * @param stop is one past the last original index of a run.
+     * @param inserted is the inserted item, or null for a run.
+     */
+    private void insertPiece(int i, int start, int stop, String inserted) {
+        if (pieces == from.length) {
+            from = Arrays.copyOf(from, pieces * 2);
+            to = Arrays.copyOf(to, pieces * 2);
+            item = Arrays.copyOf(item, pieces * 2);
+        } // if
+        System.arraycopy(from, i, from, i + 1, pieces - i);
+        System.arraycopy(to, i, to, i + 1, pieces - i);
+        System.arraycopy(item, i, item, i + 1, pieces - i);
+        from[i] = start;
+        to[i] = stop;
+        item[i] = inserted;
+        pieces++;
+    } // insertPiece
+
+    /**
+     * {@code removePiece} takes piece {@code i} out.
+     *
+     * @param i is the number of the piece.
+     */
+    private void removePiece(int i) {
+        System.arraycopy(from, i + 1, from, i, pieces - i - 1);
+        System.arraycopy(to, i + 1, to, i, pieces - i - 1);
+        System.arraycopy(item, i + 1, item, i, pieces - i - 1);
+        pieces--;
+        item[pieces] = null;
+    } // removePiece
+
+    /**
+     * {@code pieceAt} finds the piece holding the item at {@code index} and
+     * splits it so that the item is the first of its piece.
+     *
+     * @param index is an index from 0 (inclusive) to {@code size} (exclusive).
+     * @return the number of the piece that now starts with the item.
+     */
+    private int pieceAt(int index) {
+        int seen = 0;
+        for (int i = 0; i < pieces; i++) {
+            int length = item[i] != null ? 1 : to[i] - from[i];
+            if (index < seen + length) {
+                int offset = index - seen;
+                if (offset == 0) {
+                    return i;
+                } // if
+                // Splitting the run so the item starts the second half
+                insertPiece(i + 1, from[i] + offset, to[i], null);
+                to[i] = from[i] + offset;
+                return i + 1;
+            } // if
+            seen += length;
+        } // for
+        throw new IllegalStateException(); // unreachable for an index in range
+    } // pieceAt
+
+    /**
+     * {@code insert} records inserting {@code inserted} at {@code index}.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param inserted is the item that is inserted.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    private void insert(int index, String inserted) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        int i = index == size ? pieces : pieceAt(index);
+        insertPiece(i, 0, 0, inserted);
+        size++;
+    } // insert
+
+    /**
+     * {@code remove} records removing the item at {@code index}.
+     *
+     * @param index is the index of the item that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    private void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        int i = pieceAt(index);
+        if (item[i] != null) {
+            removePiece(i);
+        } else {
+            from[i]++;
+            if (from[i] == to[i]) {
+                removePiece(i);
+            } // if
+        } // if
+        size--;
+    } // remove
+
+} // EditPlan
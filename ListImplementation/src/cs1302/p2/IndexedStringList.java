@@ -0,0 +1,345 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * {@code IndexedStringList} is a child class of {@link BaseStringList} that
+ * wraps another {@link FancyStringList} and keeps a hash index of its items
+ * so that {@code contains} and {@code indexOf} do not have to scan the list.
+ * Every change must go through the {@code IndexedStringList}; changing the
+ * wrapped list directly leaves the index out of date.
+ *
+ * <p>
+ * Every position of the list has a node in a {@link RankTree}, and for every
+ * distinct string the index keeps the nodes of the positions where it
+ * appears, in list order. Adding or removing an item shifts every later
+ * position, but the tree works out a node's position when it is asked, so no
+ * stored position goes out of date: an edit anywhere costs expected O(log n)
+ * plus moving the nodes of the one string edited, and {@code indexOf} binary
+ * searches the target's nodes.
+ */
+public class IndexedStringList extends BaseStringList {
+
+    /**
+     * {@code Entry} is the index entry for one distinct string.
+     */
+    private static class Entry {
+
+        private RankTree.Node[] nodes = new RankTree.Node[4];
+        private int used;
+
+        /**
+         * {@code insert} puts {@code node} in at {@code i}.
+         *
+         * @param i is where the node goes among the string's nodes.
+         * @param node is the node of the position added.
+         */
+        void insert(int i, RankTree.Node node) {
+            if (used == nodes.length) {
+                nodes = Arrays.copyOf(nodes, used * 2);
+            } // if
+            System.arraycopy(nodes, i, nodes, i + 1, used - i);
+            nodes[i] = node;
+            used++;
+        } // insert
+
+        /**
+         * {@code remove} takes out the node at {@code i}.
+         *
+         * @param i is the node's place among the string's nodes.
+         */
+        void remove(int i) {
+            System.arraycopy(nodes, i + 1, nodes, i, used - i - 1);
+            used--;
+            nodes[used] = null;
+        } // remove
+
+        /**
+         * {@code firstFrom} binary searches for the first node whose position
+         * is at least {@code start}.
+         *
+         * @param start is the smallest position wanted.
+         * @return the node's place among the string's nodes, or {@code used}
+         * if every position is smaller.
+         */
+        int firstFrom(int start) {
+            int low = 0;
+            int high = used;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (RankTree.positionOf(nodes[middle]) < start) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                } // if
+            } // while
+            return low;
+        } // firstFrom
+
+    } // Entry
+
+    private final FancyStringList list;
+    private final HashMap<String, Entry> index = new HashMap<>();
+    private final RankTree positions = new RankTree();
+
+    /**
+     * Constructor to be able to instantiate {@code IndexedStringList} objects
+     * backed by a new {@link ArrayStringList}.
+     */
+    public IndexedStringList() {
+        this(new ArrayStringList());
+    } // IndexedStringList
+
+    /**
+     * Constructs an {@code IndexedStringList} that wraps {@code list}, indexing
+     * the items it already holds. The index puts every added item where it
+     * was added, so a list that moves items to positions of its own choosing,
+     * such as a {@link SortedStringList}, cannot be wrapped.
+     *
+     * @param list is the list being wrapped.
+     * @throws IllegalArgumentException when {@code list} reorders the items
+     * added to it.
+     */
+    public IndexedStringList(FancyStringList list) {
+        if (list instanceof SortedStringList) {
+            throw new IllegalArgumentException("a SortedStringList puts items at its own "
+                + "positions, so it cannot be indexed by position");
+        } // if
+        this.list = list;
+        if (list instanceof BaseStringList) {
+            for (String item : (BaseStringList) list) {
+                added(size, item);
+            } // for
+        } else {
+            for (int i = 0; i < list.size(); i++) {
+                added(i, list.get(i));
+            } // for
+        } // if
+    } // IndexedStringList
+
+    /**
+     * {@code entryOf} returns the index entry of {@code item}, creating it if
+     * needed.
+     *
+     * @param item is the string whose entry is returned.
+     * @return the entry of {@code item}.
+     */
+    private Entry entryOf(String item) {
+        Entry entry = index.get(item);
+        if (entry == null) {
+            entry = new Entry();
+            index.put(item, entry);
+        } // if
+        return entry;
+    } // entryOf
+
+    /**
+     * {@code added} updates the index after {@code item} was added at {@code at}.
+     *
+     * @param at is the index position where the item was inserted.
+     * @param item is the String item that was inserted.
+     */
+    private void added(int at, String item) {
+        RankTree.Node node = positions.insert(at);
+        Entry entry = entryOf(item);
+        // The string's nodes from the new position on have just moved past it
+        entry.insert(at == size ? entry.used : entry.firstFrom(at), node);
+        size++;
+        modCount++;
+    } // added
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        boolean isAdded = list.add(index, item);
+        added(index, item);
+        return isAdded;
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} to the string list at
+     * the specified index position, using the wrapped list's bulk add.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        String[] incoming = toArray(items);
+        boolean isAdded = list.add(index, new ArrayStringList(incoming));
+        for (int i = 0; i < incoming.length; i++) {
+            added(index + i, incoming[i]);
+        } // for
+        return isAdded;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        list.clear();
+        index.clear();
+        positions.clear();
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        return list.get(index);
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        String removedString = list.remove(index);
+        Entry entry = this.index.get(removedString);
+        entry.remove(entry.firstFrom(index));
+        if (entry.used == 0) {
+            this.index.remove(removedString);
+        } // if
+        positions.remove(index);
+        size--;
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code contains} looks for a {@code target} string in the StringList
+     * starting from the {@code start} index. A string that is not in the list
+     * at all, or any string when {@code start} is 0, is answered from the
+     * index in O(1).
+     *
+     * @return true when the {@code target} is found in the list.
+     */
+    @Override
+    public boolean contains(int start, String target) {
+        if (start < 0) {
+            return false;
+        } // if
+        Entry entry = index.get(target);
+        if (entry == null) {
+            return false;
+        } else if (start == 0) {
+            return true;
+        } // if
+        return indexOf(start, target) != -1;
+    } // contains
+
+    /**
+     * {@code indexOf} finds the first index from {@code start} on whose item is
+     * {@code target} by binary searching the target's positions.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        Entry entry = index.get(target);
+        if (entry == null) {
+            return -1;
+        } // if
+
+        int i = entry.firstFrom(start);
+        return i < entry.used ? RankTree.positionOf(entry.nodes[i]) : -1;
+    } // indexOf
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list. The new
+     * list is indexed as well.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        return new IndexedStringList(new ArrayStringList(list.reverse()));
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size. The new list is indexed as well.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        return new IndexedStringList(new ArrayStringList(list.slice(start, stop, step)));
+    } // slice
+
+    /**
+     * {@code iterator} returns the wrapped list's iterator when it has one.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        if (list instanceof BaseStringList) {
+            return ((BaseStringList) list).iterator();
+        } // if
+        return super.iterator();
+    } // iterator
+
+    /**
+     * {@code spliterator} returns the wrapped list's spliterator when it has
+     * one, so parallel streams split the way the wrapped list allows.
+     * Otherwise splitting copies batches from the iterator, since the wrapped
+     * list may not be safe to index from several threads.
+     *
+     * @return a spliterator over the items in the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        if (list instanceof BaseStringList) {
+            return ((BaseStringList) list).spliterator();
+        } // if
+        return Spliterators.spliterator(iterator(), list.size(),
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
+
+} // IndexedStringList
@@ -0,0 +1,721 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code InstrumentedStringList} is a child class of {@link BaseStringList}
+ * that wraps another {@link FancyStringList} and measures every call made to
+ * it. For each {@link Operation} it keeps a {@link LatencyHistogram} of call
+ * times in nanoseconds (whose total is the number of calls), the number of
+ * items the wrapped list walked past or shifted (see
+ * {@link BaseStringList#itemsTouched}), and a sample of the methods the calls
+ * came from.
+ *
+ * <p>
+ * Recording never locks, so an {@code InstrumentedStringList} around a
+ * thread-safe list can be shared between threads; the touched-item counts
+ * are then only approximate, since they are read from the wrapped list. About
+ * one call in {@link #SAMPLE_EVERY} also walks the stack to find its caller,
+ * which is how callers calling {@code get} in a loop on a
+ * {@link LinkedStringList}, or appending one item at a time to an
+ * {@link ArrayStringList} that keeps growing, can be found.
+ */
+public class InstrumentedStringList extends BaseStringList {
+
+    /**
+     * {@code Operation} names the measured methods of {@link FancyStringList}
+     * and {@link BaseStringList}.
+     */
+    public enum Operation {
+        ADD, ADD_ALL, APPEND, APPEND_ALL, PREPEND, PREPEND_ALL, CLEAR, CONTAINS, GET,
+        INDEX_OF, IS_EMPTY, MAKE_STRING, REMOVE, SIZE, SLICE, SLICE_STEP, REVERSE,
+        SORT, PARALLEL_SORT, APPLY_BATCH, REVERSED_VIEW
+    } // Operation
+
+    /**
+     * {@code OperationStats} is what has been recorded for one operation.
+     */
+    public static class OperationStats {
+
+        private final LatencyHistogram latency;
+        private final LongAdder itemsTouched = new LongAdder();
+        private final ConcurrentHashMap<String, LongAdder> callers = new ConcurrentHashMap<>();
+
+        /**
+         * Constructs an {@code OperationStats} around {@code latency}.
+         *
+         * @param latency is the histogram of call times.
+         */
+        private OperationStats(LatencyHistogram latency) {
+            this.latency = latency;
+        } // OperationStats
+
+        /**
+         * {@code calls} is the number of calls recorded.
+         *
+         * @return the number of calls.
+         */
+        public long calls() {
+            return latency.count();
+        } // calls
+
+        /**
+         * {@code latency} is the histogram of call times, in nanoseconds.
+         *
+         * @return the latency histogram.
+         */
+        public LatencyHistogram latency() {
+            return latency;
+        } // latency
+
+        /**
+         * {@code itemsTouched} is the number of items the wrapped list walked
+         * past or shifted during these calls.
+         *
+         * @return the number of items touched.
+         */
+        public long itemsTouched() {
+            return itemsTouched.sum();
+        } // itemsTouched
+
+        /**
+         * {@code callers} returns how many sampled calls came from each caller,
+         * as {@code Class.method:line}, most frequent first.
+         *
+         * @return the sampled callers and their counts.
+         */
+        public Map<String, Long> callers() {
+            Map<String, Long> sorted = new LinkedHashMap<>();
+            callers.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue().sum()));
+            return sorted;
+        } // callers
+
+        /**
+         * {@code copy} returns a copy of these stats, setting them back to 0
+         * first if {@code reset} is true.
+         *
+         * @param reset is true when the stats are reset as they are copied.
+         * @return the copy.
+         */
+        private OperationStats copy(boolean reset) {
+            OperationStats copy = new OperationStats(
+                reset ? latency.copyAndReset() : latency.copy());
+            copy.itemsTouched.add(reset ? itemsTouched.sumThenReset() : itemsTouched.sum());
+            for (String caller : callers.keySet()) {
+                LongAdder count = reset ? callers.remove(caller) : callers.get(caller);
+                if (count != null) {
+                    copy.callers.computeIfAbsent(caller, c -> new LongAdder()).add(count.sum());
+                } // if
+            } // for
+            return copy;
+        } // copy
+
+    } // OperationStats
+
+    /** On average, one call in this many records where it was called from. */
+    public static final int SAMPLE_EVERY = 1024;
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final FancyStringList list;
+    private final OperationStats[] stats = new OperationStats[Operation.values().length];
+
+    /**
+     * Constructor to be able to instantiate {@code InstrumentedStringList}
+     * objects backed by a new {@link ArrayStringList}.
+     */
+    public InstrumentedStringList() {
+        this(new ArrayStringList());
+    } // InstrumentedStringList
+
+    /**
+     * Constructs an {@code InstrumentedStringList} that measures calls made to
+     * {@code list}.
+     *
+     * @param list is the list being wrapped.
+     */
+    public InstrumentedStringList(FancyStringList list) {
+        this.list = list;
+        this.size = list.size();
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new OperationStats(new LatencyHistogram());
+        } // for
+    } // InstrumentedStringList
+
+    /**
+     * {@code touched} reads the wrapped list's count of touched items.
+     *
+     * @return the items touched so far, or 0 when the list does not count them.
+     */
+    private long touched() {
+        return list instanceof BaseStringList ? ((BaseStringList) list).itemsTouched() : 0;
+    } // touched
+
+    /**
+     * {@code record} records a call to {@code operation} that started at
+     * {@code start} nanoseconds, when the wrapped list had touched
+     * {@code touchedBefore} items.
+     *
+     * @param operation is the operation that was called.
+     * @param start is the {@link System#nanoTime} when the call started.
+     * @param touchedBefore is the touched-item count when the call started.
+     */
+    private void record(Operation operation, long start, long touchedBefore) {
+        long elapsed = System.nanoTime() - start;
+        OperationStats operationStats = stats[operation.ordinal()];
+        operationStats.latency.record(elapsed);
+        long touched = touched() - touchedBefore;
+        if (touched != 0) {
+            operationStats.itemsTouched.add(touched);
+        } // if
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_EVERY) == 0) {
+            String caller = WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(InstrumentedStringList.class.getName()))
+                .findFirst()
+                .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown"));
+            operationStats.callers.computeIfAbsent(caller, c -> new LongAdder()).increment();
+        } // if
+    } // record
+
+    /**
+     * {@code changed} brings the size up to date after the wrapped list changed.
+     */
+    private void changed() {
+        size = list.size();
+        modCount++;
+    } // changed
+
+    /**
+     * {@code snapshot} returns a copy of everything recorded so far, by
+     * operation. Operations that were never called are left out.
+     *
+     * @return the recorded stats.
+     */
+    public Map<Operation, OperationStats> snapshot() {
+        return copyStats(false);
+    } // snapshot
+
+    /**
+     * {@code snapshotAndReset} returns a copy of everything recorded so far
+     * and starts recording again from nothing. No call is lost or counted
+     * twice, even while other threads are calling the list.
+     *
+     * @return the recorded stats.
+     */
+    public Map<Operation, OperationStats> snapshotAndReset() {
+        return copyStats(true);
+    } // snapshotAndReset
+
+    /**
+     * {@code copyStats} copies the stats of every operation that was called.
+     *
+     * @param reset is true when the stats are reset as they are copied.
+     * @return the copied stats.
+     */
+    private Map<Operation, OperationStats> copyStats(boolean reset) {
+        Map<Operation, OperationStats> copies = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            OperationStats copy = stats[operation.ordinal()].copy(reset);
+            if (copy.calls() != 0) {
+                copies.put(operation, copy);
+            } // if
+        } // for
+        return copies;
+    } // copyStats
+
+    /**
+     * {@code report} formats a snapshot as a table with one line per called
+     * operation: calls, median, 99th percentile and largest latency in
+     * nanoseconds, items touched per call, and the most frequent caller.
+     *
+     * @return the formatted table.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-12s %10s %10s %10s %12s %10s  %s%n",
+            "operation", "calls", "p50 ns", "p99 ns", "max ns", "items/call", "top caller"));
+        for (Map.Entry<Operation, OperationStats> entry : snapshot().entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            LatencyHistogram latency = operationStats.latency();
+            long calls = operationStats.calls();
+            String topCaller = operationStats.callers().keySet().stream().findFirst().orElse("-");
+            report.append(String.format("%-12s %10d %10d %10d %12d %10.1f  %s%n",
+                entry.getKey(), calls, latency.percentile(50), latency.percentile(99),
+                latency.max(), (double) operationStats.itemsTouched() / calls, topCaller));
+        } // for
+        return report.toString();
+    } // report
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.add(index, item);
+        } finally {
+            record(Operation.ADD, start, touchedBefore);
+            changed();
+        } // try
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} to the string list at
+     * the specified index position.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.add(index, items);
+        } finally {
+            record(Operation.ADD_ALL, start, touchedBefore);
+            changed();
+        } // try
+    } // add
+
+    /**
+     * {@code append} appends an item into the {@code size} index.
+     *
+     * @param item is the item being appended.
+     */
+    @Override
+    public boolean append(String item) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.append(item);
+        } finally {
+            record(Operation.APPEND, start, touchedBefore);
+            changed();
+        } // try
+    } // append
+
+    /**
+     * {@code append} appends a list of items at the end of the string list.
+     *
+     * @param items is the list of items being appended.
+     */
+    @Override
+    public boolean append(StringList items) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.append(items);
+        } finally {
+            record(Operation.APPEND_ALL, start, touchedBefore);
+            changed();
+        } // try
+    } // append
+
+    /**
+     * {@code prepend} prepends an item to the string list at index 0.
+     *
+     * @param item is the item that is prepended.
+     */
+    @Override
+    public boolean prepend(String item) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.prepend(item);
+        } finally {
+            record(Operation.PREPEND, start, touchedBefore);
+            changed();
+        } // try
+    } // prepend
+
+    /**
+     * {@code prepend} prepends a list of items to the string list at index 0.
+     *
+     * @param items is the list of items that is prepended.
+     */
+    @Override
+    public boolean prepend(StringList items) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.prepend(items);
+        } finally {
+            record(Operation.PREPEND_ALL, start, touchedBefore);
+            changed();
+        } // try
+    } // prepend
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            list.clear();
+        } finally {
+            record(Operation.CLEAR, start, touchedBefore);
+            changed();
+        } // try
+    } // clear
+
+    /**
+     * {@code contains} looks for a {@code target} string in the StringList
+     * starting from the {@code start} index.
+     *
+     * @return true when the {@code target} is found in the list.
+     */
+    @Override
+    public boolean contains(int start, String target) {
+        long touchedBefore = touched();
+        long startTime = System.nanoTime();
+        try {
+            return list.contains(start, target);
+        } finally {
+            record(Operation.CONTAINS, startTime, touchedBefore);
+        } // try
+    } // contains
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.get(index);
+        } finally {
+            record(Operation.GET, start, touchedBefore);
+        } // try
+    } // get
+
+    /**
+     * {@code indexOf} finds the index of the {@code target} string from the
+     * {@code start} index on.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        long touchedBefore = touched();
+        long startTime = System.nanoTime();
+        try {
+            return list.indexOf(start, target);
+        } finally {
+            record(Operation.INDEX_OF, startTime, touchedBefore);
+        } // try
+    } // indexOf
+
+    /**
+     * {@code isEmpty} checks if the string list is empty or not.
+     *
+     * @return true if the string list is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.isEmpty();
+        } finally {
+            record(Operation.IS_EMPTY, start, touchedBefore);
+        } // try
+    } // isEmpty
+
+    /**
+     * {@code makeString} makes a string out of the items in the list.
+     *
+     * @param start is the string placed before the items.
+     * @param sep is the string placed between the items.
+     * @param end is the string placed after the items.
+     * @return the string made of the items.
+     */
+    @Override
+    public String makeString(String start, String sep, String end) {
+        long touchedBefore = touched();
+        long startTime = System.nanoTime();
+        try {
+            return list.makeString(start, sep, end);
+        } finally {
+            record(Operation.MAKE_STRING, startTime, touchedBefore);
+        } // try
+    } // makeString
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.remove(index);
+        } finally {
+            record(Operation.REMOVE, start, touchedBefore);
+            changed();
+        } // try
+    } // remove
+
+    /**
+     * {@code size} is the size of the wrapped list.
+     *
+     * @return size is the current size of the list.
+     */
+    @Override
+    public int size() {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.size();
+        } finally {
+            record(Operation.SIZE, start, touchedBefore);
+        } // try
+    } // size
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive). The slice is not
+     * instrumented.
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        long touchedBefore = touched();
+        long startTime = System.nanoTime();
+        try {
+            return list.slice(start, stop);
+        } finally {
+            record(Operation.SLICE, startTime, touchedBefore);
+        } // try
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list. The
+     * reversed list is not instrumented.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            return list.reverse();
+        } finally {
+            record(Operation.REVERSE, start, touchedBefore);
+        } // try
+    } // reverse
+
+    /**
+     * {@code sort} sorts the wrapped list in place by {@code comparator}, or
+     * in natural order when {@code comparator} is null, using the wrapped
+     * list's own sort when it has one.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void sort(Comparator<? super String> comparator) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            if (list instanceof BaseStringList) {
+                ((BaseStringList) list).sort(comparator);
+            } else {
+                String[] sorted = toArray(list);
+                Arrays.sort(sorted, comparator);
+                replaceItems(sorted);
+            } // if
+        } finally {
+            record(Operation.SORT, start, touchedBefore);
+            changed();
+        } // try
+    } // sort
+
+    /**
+     * {@code parallelSort} sorts the wrapped list like {@link #sort}, using
+     * the wrapped list's own parallel sort when it has one.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void parallelSort(Comparator<? super String> comparator) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            if (list instanceof BaseStringList) {
+                ((BaseStringList) list).parallelSort(comparator);
+            } else {
+                String[] sorted = toArray(list);
+                Arrays.parallelSort(sorted, comparator);
+                replaceItems(sorted);
+            } // if
+        } finally {
+            record(Operation.PARALLEL_SORT, start, touchedBefore);
+            changed();
+        } // try
+    } // parallelSort
+
+    /**
+     * {@code applyBatch} applies {@code edits} to the wrapped list, using the
+     * wrapped list's own batch edit when it has one.
+     *
+     * @param edits is the edits, in the order they are applied.
+     * @throws IndexOutOfBoundsException when an edit's index is out of range.
+     */
+    @Override
+    public void applyBatch(List<Edit> edits) {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            if (list instanceof BaseStringList) {
+                ((BaseStringList) list).applyBatch(edits);
+            } else {
+                EditPlan plan = new EditPlan(list.size(), edits);
+                String[] edited = new String[plan.size()];
+                plan.fill(toArray(list), edited);
+                replaceItems(edited);
+            } // if
+        } finally {
+            record(Operation.APPLY_BATCH, start, touchedBefore);
+            changed();
+        } // try
+    } // applyBatch
+
+    /**
+     * {@code replaceItems} replaces everything in the wrapped list with
+     * {@code items}, for wrapped lists that cannot sort or edit themselves.
+     *
+     * @param items is the new contents of the list.
+     */
+    private void replaceItems(String[] items) {
+        list.clear();
+        list.add(0, new ArrayStringList(items));
+    } // replaceItems
+
+    /**
+     * {@code reversedView} returns the wrapped list's reversed view when it
+     * has one, whose reads are not measured. Otherwise the view reads
+     * through this list, and its reads are measured as {@code GET}s.
+     *
+     * @return a reversed view of the list.
+     */
+    @Override
+    public StringListView reversedView() {
+        long touchedBefore = touched();
+        long start = System.nanoTime();
+        try {
+            if (list instanceof BaseStringList) {
+                return ((BaseStringList) list).reversedView();
+            } // if
+            return StringListView.reversed(this, size);
+        } finally {
+            record(Operation.REVERSED_VIEW, start, touchedBefore);
+        } // try
+    } // reversedView
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size. The slice is not instrumented.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        long touchedBefore = touched();
+        long startTime = System.nanoTime();
+        try {
+            return list.slice(start, stop, step);
+        } finally {
+            record(Operation.SLICE_STEP, startTime, touchedBefore);
+        } // try
+    } // slice
+
+    /**
+     * {@code iterator} returns the wrapped list's iterator when it has one.
+     * Iterating is not measured.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        if (list instanceof BaseStringList) {
+            return ((BaseStringList) list).iterator();
+        } // if
+        return super.iterator();
+    } // iterator
+
+    /**
+     * {@code spliterator} returns the wrapped list's spliterator when it has
+     * one, so parallel streams split the way the wrapped list allows.
+     * Otherwise splitting copies batches from the iterator, since the wrapped
+     * list may not be safe to index from several threads. Like iterating,
+     * streaming is not measured, though the wrapped list's touched-item count
+     * still includes it.
+     *
+     * @return a spliterator over the items in the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        if (list instanceof BaseStringList) {
+            return ((BaseStringList) list).spliterator();
+        } // if
+        return Spliterators.spliterator(iterator(), list.size(),
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
+
+    /**
+     * {@code itemsTouched} is the number of items the wrapped list has walked
+     * past or shifted.
+     *
+     * @return the number of items touched so far.
+     */
+    @Override
+    public long itemsTouched() {
+        return touched();
+    } // itemsTouched
+
+} // InstrumentedStringList
@@ -0,0 +1,160 @@
+package cs1302.p2;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@code LatencyHistogram} counts how many recorded values fall in each of a
+ * fixed set of buckets, in the style of an HdrHistogram. Values below 32 get a
+ * bucket each; above that, every power of two is split into 16 buckets, so a
+ * value is known to within about 6% of itself. Any {@code long} value fits in
+ * 960 buckets.
+ *
+ * <p>
+ * {@link #record} is a single atomic increment, so any number of threads can
+ * record at once without locking. Reading the histogram while it is being
+ * recorded gives counts that are each correct but may not all be from the
+ * same moment.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Constructs an empty {@code LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+    } // LatencyHistogram
+
+    /**
+     * {@code bucketOf} returns the bucket that {@code value} falls in.
+     *
+     * @param value is a value that is not negative.
+     * @return the number of the bucket.
+     */
+    private static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        } // if
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    } // bucketOf
+
+    /**
+     * {@code highestValueIn} returns the largest value that falls in
+     * {@code bucket}.
+     *
+     * @param bucket is the number of the bucket.
+     * @return the largest value of the bucket.
+     */
+    private static long highestValueIn(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        } // if
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    } // highestValueIn
+
+    /**
+     * {@code record} counts one {@code value}. Negative values are counted
+     * as 0.
+     *
+     * @param value is the value being recorded, such as a latency in nanoseconds.
+     */
+    public void record(long value) {
+        counts.incrementAndGet(bucketOf(Math.max(0, value)));
+    } // record
+
+    /**
+     * {@code count} is the number of values recorded.
+     *
+     * @return the number of values recorded.
+     */
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        } // for
+        return total;
+    } // count
+
+    /**
+     * {@code percentile} returns a value that at least {@code percent} percent
+     * of the recorded values are at or below, rounded up to its bucket.
+     *
+     * @param percent is the percentile wanted, from 0 to 100.
+     * @return the percentile value, or 0 if nothing was recorded.
+     */
+    public long percentile(double percent) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        } // if
+        long wanted = Math.max(1, (long) Math.ceil(total * percent / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= wanted) {
+                return highestValueIn(i);
+            } // if
+        } // for
+        return max();
+    } // percentile
+
+    /**
+     * {@code max} returns the largest recorded value, rounded up to its bucket.
+     *
+     * @return the largest value, or 0 if nothing was recorded.
+     */
+    public long max() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (counts.get(i) != 0) {
+                return highestValueIn(i);
+            } // if
+        } // for
+        return 0;
+    } // max
+
+    /**
+     * {@code copy} returns a new histogram holding the counts of this one.
+     *
+     * @return a copy of the histogram.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            copy.counts.set(i, counts.get(i));
+        } // for
+        return copy;
+    } // copy
+
+    /**
+     * {@code copyAndReset} returns a new histogram holding the counts of this
+     * one and sets them back to 0. Every value is either in the copy or still
+     * in this histogram, even while other threads record.
+     *
+     * @return a copy of the histogram before it was reset.
+     */
+    public LatencyHistogram copyAndReset() {
+        LatencyHistogram copy = new LatencyHistogram();
+        for (int i = 0; i < BUCKETS; i++) {
+            copy.counts.set(i, counts.getAndSet(i, 0));
+        } // for
+        return copy;
+    } // copyAndReset
+
+    /**
+     * {@code reset} sets every count back to 0.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        } // for
+    } // reset
+
+} // LatencyHistogram
@@ -3,6 +3,14 @@ package cs1302.p2;
 import cs1302.adt.FancyStringList;
 import cs1302.adt.StringList;
 import cs1302.adt.Node;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * {@code LinkedStringList} is a child class of {@link BaseStringList}
@@ -11,12 +19,21 @@ import cs1302.adt.Node;
 public class LinkedStringList extends BaseStringList {
 
     private Node head;
+    private Node tail;
+
+    // Cursor remembering the last node that was reached by index
+    private Node cursorNode;
+    private int cursorIndex;
+
+    // Optional filter that answers most misses without a scan; null when off
+    private BloomFilter bloomFilter;
 
     /**
      * Constructor to be able to instantiate {@code LinkedStringList} objects.
      */
     public LinkedStringList() {
-        head = new Node("");
+        head = null;
+        tail = null;
         size = 0;
     } // LinkedStringList
 
@@ -29,13 +46,15 @@ public class LinkedStringList extends BaseStringList {
     public LinkedStringList(StringList other) {
         // If other is empty, then it will just make an empty list with size 0
         if (other.isEmpty()) {
-            this.head = new Node(""); // makes an empty list
+            this.head = null; // makes an empty list
             this.size = 0;
         } else if (other.size() == 1) {
             this.head = new Node(other.get(0)); // only copies the head
+            this.tail = this.head;
             this.size++;
         } else {
             this.head = new Node(other.get(0)); // copies head and the rest of the nodes
+            this.tail = this.head;
             this.size++;
             for (int i = 1; i < other.size(); i++) {
                 this.append(other.get(i));
@@ -43,6 +62,65 @@ public class LinkedStringList extends BaseStringList {
         } // if-else
     } // LinkedStringList
 
+    /**
+     * {@code enableBloomFilter} starts keeping a {@link BloomFilter} next to the
+     * items so that lookups for strings that are not in the list return
+     * without a scan. The filter is sized for {@code expectedItems} strings,
+     * or for the current size if that is larger, and grows if it is outgrown.
+     *
+     * @param expectedItems is the number of strings the list is expected to hold.
+     */
+    public void enableBloomFilter(int expectedItems) {
+        bloomFilter = new BloomFilter(Math.max(expectedItems, size));
+        bloomFilter.rebuild(this);
+    } // enableBloomFilter
+
+    /**
+     * {@code disableBloomFilter} stops keeping a Bloom filter.
+     */
+    public void disableBloomFilter() {
+        bloomFilter = null;
+    } // disableBloomFilter
+
+    /**
+     * {@code bloomFilter} returns the list's Bloom filter so its counters can
+     * be read.
+     *
+     * @return the Bloom filter, or null when none is kept.
+     */
+    public BloomFilter bloomFilter() {
+        return bloomFilter;
+    } // bloomFilter
+
+    /**
+     * {@code nodeAt} returns the node at a valid {@code index}. The walk starts
+     * from the cursor when the cursor is at or before the index, so sequential
+     * access only moves one node per call, and the tail is returned directly.
+     *
+     * @param index is the index of the node that is returned.
+     * @return the node at that index.
+     */
+    private Node nodeAt(int index) {
+        if (index == size - 1) {
+            return tail;
+        } // if
+
+        Node targetNode = head;
+        int i = 0;
+        if (cursorNode != null && cursorIndex <= index) {
+            targetNode = cursorNode;
+            i = cursorIndex;
+        } // if
+        itemsTouched += index - i;
+        for (; i < index; i++) {
+            targetNode = targetNode.getNext();
+        } // for
+
+        cursorNode = targetNode;
+        cursorIndex = index;
+        return targetNode;
+    } // nodeAt
+
     /**
      * {@code add} adds an {@code item} to the string list at
      * a specified index position.
@@ -68,18 +146,81 @@ public class LinkedStringList extends BaseStringList {
 
         if (index == 0) {
             head = new Node(item, head);
+            cursorNode = null; // every index moved, so the cursor is no longer valid
+            if (size == 0) {
+                tail = head;
+            } // if
         } else {
             Node newNode = new Node(item);
-            Node tempNode = head;
-            for (int i = 0; i < index - 1; i++) {
-                tempNode = tempNode.getNext();
-            } // for
+            // Nodes before index keep their positions, so the cursor stays valid
+            Node tempNode = nodeAt(index - 1);
             // Setting newNode's next Node to the node with index + 1
             newNode.setNext(tempNode.getNext());
             // Setting the previous node's next to newNode
             tempNode.setNext(newNode);
+            if (index == size) {
+                tail = newNode;
+            } // if
         } //if
         size++;
+        modCount++;
+        if (bloomFilter != null) {
+            bloomFilter.add(item);
+        } // if
+        return true;
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} to the string list at
+     * the specified index position. The new nodes are linked into a chain
+     * first, and the chain is spliced in after a single walk to {@code index}.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (items.isEmpty()) {
+            return false;
+        } // if
+
+        // Building the chain of new nodes before touching this list
+        String[] incoming = toArray(items);
+        Node chainHead = new Node(incoming[0]);
+        Node chainTail = chainHead;
+        for (int i = 1; i < incoming.length; i++) {
+            Node newNode = new Node(incoming[i]);
+            chainTail.setNext(newNode);
+            chainTail = newNode;
+        } // for
+
+        if (index == 0) {
+            chainTail.setNext(head);
+            head = chainHead;
+            cursorNode = null; // every index moved, so the cursor is no longer valid
+        } else {
+            // Nodes before index keep their positions, so the cursor stays valid
+            Node precedingNode = nodeAt(index - 1);
+            chainTail.setNext(precedingNode.getNext());
+            precedingNode.setNext(chainHead);
+        } // if
+
+        if (index == size) {
+            tail = chainTail;
+        } // if
+        size += incoming.length;
+        modCount++;
+        if (bloomFilter != null) {
+            for (String item : incoming) {
+                bloomFilter.add(item);
+            } // for
+        } // if
         return true;
     } // add
 
@@ -88,7 +229,13 @@ public class LinkedStringList extends BaseStringList {
      */
     public void clear() {
         head = null;
+        tail = null;
+        cursorNode = null;
         size = 0;
+        modCount++;
+        if (bloomFilter != null) {
+            bloomFilter.clear();
+        } // if
     } // clear
 
     /**
@@ -103,12 +250,7 @@ public class LinkedStringList extends BaseStringList {
             throw new IndexOutOfBoundsException();
         } // if
 
-        Node targetNode = head;
-        for (int i = 0; i < index; i++) {
-            targetNode = targetNode.getNext();
-        } // for
-
-        return targetNode.getItem();
+        return nodeAt(index).getItem();
     } // get
 
     /**
@@ -132,98 +274,222 @@ public class LinkedStringList extends BaseStringList {
             head = head.getNext(); // setting head to the seceding node
             firstNode.setNext(null); // Deleting next reference from the first node
             size--; // Decrementing size
+            modCount++;
+            cursorNode = null;
+            if (size == 0) {
+                tail = null;
+            } // if
+            if (bloomFilter != null) {
+                bloomFilter.removed();
+            } // if
 
             return removedItem;
         } else {
-            Node precedingNode = head;
-            Node removeNode = head;
-            // Accessing to the intended removed node
-            for (int i = 0; i < index; i++) {
-                removeNode = removeNode.getNext();
-            } // for
+            // Accessing to the Node preceding the intended removedNode
+            Node precedingNode = nodeAt(index - 1);
+            Node removeNode = precedingNode.getNext();
 
             String removedItem = removeNode.getItem(); // This will be returned later
 
-            // Accessing to the Node preceding the intended removedNode
-            for (int i = 0; i < index - 1; i++) {
-                precedingNode = precedingNode.getNext();
-            } // for
+            if (removeNode == tail) {
+                tail = precedingNode;
+            } // if
 
             // Connecting the preceding node to the node that comes after the intended removed node
             precedingNode.setNext(removeNode.getNext());
             // Setting removeNode's next to null so it disappears (since nothing is referencing it)
             removeNode.setNext(null);
             size--; // Decrementing the size
+            modCount++;
+            if (bloomFilter != null) {
+                bloomFilter.removed();
+            } // if
             return removedItem;
         } // if
 
     } // remove
 
     /**
-     * {@code slice} slices the StringList from the {@code start} index
-     * (inclusive) to the {@code stop} index (exclusive).
+     * {@code indexOf} walks the list from {@code start} to find the index of
+     * the {@code target} string. When a Bloom filter is kept, it is asked first.
      *
-     * @param start is the inclusive starting point of the sliced array.
-     * @param stop is the exclusive ending point of the sliced array.
-     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
-     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     * @return theIndex is the index of the target string, or -1 if it is not found.
      */
     @Override
-    public StringList slice(int start, int stop) {
-        // Checking for IndexOutOfBoundsException
-        if (start < 0 || stop > size() || start > stop) {
-            throw new IndexOutOfBoundsException();
+    public int indexOf(int start, String target) {
+        if (bloomFilter != null && bloomFilter.rejects(this, target)) {
+            return -1;
         } // if
-        // Declaring new reference to new LinkedStringObject where the sliced list will be stored
-        LinkedStringList slicedList = new LinkedStringList();
-        /*
-         * If the size after slice is still the whole array, then just each item to
-         * a new reference and return that reference.
-         * Else it will remove the extraneous elements after the slice and return the
-         * edited reference.
-         */
-        if (start == 0 && stop == size()) {
-            for (int i = size - 1; i >= 0; i--) {
-                slicedList.prepend(this.get(i));
-            } // for
-        } else if (start == 0) {
-            // Removing Nodes at stop index and after
-            //Accessing the node right before the stop index
-            Node precedingStopNode = head;
-            for (int i = 0; i < stop - 1; i++) {
-                precedingStopNode = precedingStopNode.getNext();
-            } // for
-            // Breaking the link of the precedingStopNode
-            precedingStopNode.setNext(null);
-            size = stop - start;
-            // Copying all nodes to slicedList's object reference
-            for (int i = size - 1; i >= 0; i--) {
-                slicedList.prepend(this.get(i));
-            } // for
+        int theIndex = super.indexOf(start, target);
+        if (theIndex == -1 && start <= 0 && bloomFilter != null) {
+            bloomFilter.falsePositive();
+        } // if
+        return theIndex;
+    } // indexOf
+
+    /**
+     * {@code cut} ends the run of up to {@code length} nodes that starts at
+     * {@code first} and returns the node after it.
+     *
+     * @param first is the first node of the run, which may be null.
+     * @param length is the most nodes the run may hold.
+     * @return the node after the run, or null if there is none.
+     */
+    private static Node cut(Node first, int length) {
+        for (int i = 1; first != null && i < length; i++) {
+            first = first.getNext();
+        } // for
+        if (first == null) {
+            return null;
+        } // if
+        Node rest = first.getNext();
+        first.setNext(null);
+        return rest;
+    } // cut
+
+    /**
+     * {@code sort} sorts the list with a bottom-up merge sort that relinks the
+     * existing nodes, so no nodes or arrays are allocated. Runs of 1, 2, 4 and
+     * so on nodes are merged in passes along the list. Equal items keep their
+     * order.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void sort(Comparator<? super String> comparator) {
+        Comparator<? super String> order =
+            comparator == null ? Comparator.naturalOrder() : comparator;
+        for (int width = 1; width < size; width *= 2) {
+            Node rest = head;
+            Node sortedHead = null;
+            Node sortedTail = null;
+            while (rest != null) {
+                Node left = rest;
+                Node right = cut(left, width);
+                rest = cut(right, width);
+                // Merging the two runs onto the end of the sorted part
+                while (left != null || right != null) {
+                    Node next;
+                    if (right == null
+                        || left != null && order.compare(left.getItem(), right.getItem()) <= 0) {
+                        next = left;
+                        left = left.getNext();
+                    } else {
+                        next = right;
+                        right = right.getNext();
+                    } // if
+                    if (sortedTail == null) {
+                        sortedHead = next;
+                    } else {
+                        sortedTail.setNext(next);
+                    } // if
+                    sortedTail = next;
+                } // while
+            } // while
+            head = sortedHead;
+            tail = sortedTail;
+        } // for
+        cursorNode = null; // nodes moved, so the cursor is no longer valid
+        modCount++;
+    } // sort
+
+    /**
+     * {@code parallelSort} copies the items into an array, sorts it across
+     * the common {@link java.util.concurrent.ForkJoinPool}, and writes the
+     * items back into the existing nodes in order.
+     *
+     * @param comparator is the order to sort by, or null for natural order.
+     */
+    @Override
+    public void parallelSort(Comparator<? super String> comparator) {
+        String[] sorted = new String[size];
+        int i = 0;
+        for (Node node = head; node != null; node = node.getNext(), i++) {
+            sorted[i] = node.getItem();
+        } // for
+        if (MsdRadixSort.sortsNaturally(comparator)) {
+            MsdRadixSort.parallelSort(sorted, 0, size);
         } else {
-            // Removing nodes at the stop index and after first
-            //Accessing the node right before the stop index
-            Node precedingStopNode = head;
-            for (int i = 0; i < stop - 1; i++) {
-                precedingStopNode = precedingStopNode.getNext();
-            } // for
-            // Breaking the link of the precedingStopNode
-            precedingStopNode.setNext(null);
-            // Removing the nodes before the start index
-            Node precedingStartNode = head;
-            // Accessing the node right before the node with the start index
-            for (int i = 0; i < start - 1; i++) {
-                precedingStartNode = precedingStartNode.getNext();
-            } // for
-            head = precedingStartNode.getNext(); // Setting head to the start index node
-            precedingStartNode.setNext(null); // Setting the preceding node's next to null
-            size = stop - start;
-            // Copying all nodes to slicedList's object reference
-            for (int i = size - 1; i >= 0; i--) {
-                slicedList.prepend(this.get(i));
-            } // for
+            Arrays.parallelSort(sorted, comparator);
         } // if
-        return slicedList;
+        i = 0;
+        for (Node node = head; node != null; node = node.getNext(), i++) {
+            node.setItem(sorted[i]);
+        } // for
+        modCount++;
+    } // parallelSort
+
+    /**
+     * {@code applyBatch} works out the edits first and then relinks the
+     * chain in one walk from the head: kept nodes are reused in place,
+     * removed nodes are skipped, and inserted items get new nodes.
+     *
+     * @param edits is the edits, in the order they are applied.
+     * @throws IndexOutOfBoundsException when an edit's index is out of range.
+     */
+    @Override
+    public void applyBatch(List<Edit> edits) {
+        EditPlan plan = new EditPlan(size, edits);
+        Node oldNode = head;
+        int oldIndex = 0;
+        Node newHead = null;
+        Node newTail = null;
+        for (int i = 0; i < plan.pieces(); i++) {
+            Node first;
+            Node last;
+            if (plan.item(i) != null) {
+                first = new Node(plan.item(i));
+                last = first;
+            } else {
+                // Skipping the removed nodes before the run, then walking to its end
+                while (oldIndex < plan.from(i)) {
+                    oldNode = oldNode.getNext();
+                    oldIndex++;
+                } // while
+                first = oldNode;
+                last = oldNode;
+                oldNode = oldNode.getNext();
+                oldIndex++;
+                while (oldIndex < plan.to(i)) {
+                    last = oldNode;
+                    oldNode = oldNode.getNext();
+                    oldIndex++;
+                } // while
+            } // if
+            if (newTail == null) {
+                newHead = first;
+            } else {
+                newTail.setNext(first);
+            } // if
+            newTail = last;
+        } // for
+        if (newTail != null) {
+            newTail.setNext(null);
+        } // if
+        head = newHead;
+        tail = newTail;
+        itemsTouched += oldIndex;
+        size = plan.size();
+        cursorNode = null; // nodes moved, so the cursor is no longer valid
+        modCount++;
+        if (bloomFilter != null) {
+            bloomFilter.rebuild(this);
+        } // if
+    } // applyBatch
+
+    /**
+     * {@code slice} returns a view of the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive). The view reads from this
+     * list's nodes, so nothing is copied and this list is left unchanged.
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return new StringListView(this, start, stop, 1);
     } // slice
 
     /**
@@ -236,21 +502,23 @@ public class LinkedStringList extends BaseStringList {
     public FancyStringList reverse() {
         LinkedStringList reversedList = new LinkedStringList();
 
-        Node currentNode = this.head;
-        // Setting last node of current list to the first item
-        // of the new list
-        for (int i = 0; i < this.size(); i++) {
-            reversedList.prepend(this.get(i));
-            currentNode = currentNode.getNext();
+        // Walking the nodes once and putting a copy of each in front of the last
+        for (Node node = head; node != null; node = node.getNext()) {
+            Node first = new Node(node.getItem());
+            first.setNext(reversedList.head);
+            reversedList.head = first;
+            if (reversedList.tail == null) {
+                reversedList.tail = first;
+            } // if
         } // for
-
+        reversedList.size = size;
         return reversedList;
     } // reverse
 
     /**
-     * {@code slice} returns the new {@code FancyStringList} when where the list
-     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
-     * the {@code step} size.
+     * {@code slice} returns a view of the list from where the list starts
+     * (inclusive) to where it stops (exclusive), taking every {@code step}-th
+     * item. The view reads from this list's nodes, so nothing is copied.
      *
      * @param start is where the sliced list starts (inclusive).
      * @param stop is where the sliced list stops (exclusive).
@@ -260,20 +528,54 @@ public class LinkedStringList extends BaseStringList {
      */
     @Override
     public FancyStringList slice(int start, int stop, int step) {
+        return new StringListView(this, start, stop, step);
+    } // slice
 
-        StringList slicedList = new LinkedStringList();
-        slicedList = this.slice(start, stop); // Calling first slice method from start to stop
+    /**
+     * {@code iterator} returns a fail-fast iterator that walks the nodes from the head
+     * without moving the index cursor.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private Node current = head;
+            private int remaining = size;
+            private final int expectedModCount = modCount;
 
-        LinkedStringList slicedListWithStep = new LinkedStringList();
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            } // hasNext
 
-        for (int i = 0; i < stop - start; i++) {
-            if (i % step == 0) {
-                // if the index mod step is 0, then append it to the new list
-                slicedListWithStep.append(slicedList.get(i));
-            } // if
-        } // for
+            @Override
+            public String next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } // if
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                } // if
+                String nextItem = current.getItem();
+                current = current.getNext();
+                remaining--;
+                return nextItem;
+            } // next
+        };
+    } // iterator
 
-        return slicedListWithStep;
-    } // slice
+    /**
+     * {@code spliterator} returns a spliterator over the items in the list.
+     * Splitting copies batches from the iterator into arrays, so parallel
+     * streams never have to index into the chain.
+     *
+     * @return a SIZED and ORDERED spliterator over the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
 
 } // LinkedStringList
@@ -0,0 +1,429 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.RandomAccess;
+
+/**
+ * {@code MappedStringList} is a child class of {@link BaseStringList} that
+ * reads a list saved by {@link #save} straight out of a memory-mapped file.
+ * Opening the list only maps the file and checks its header, so it takes
+ * the same time whatever the size of the list; {@code get} decodes just the
+ * item asked for, and the operating system reads in only the pages used.
+ *
+ * <p>
+ * A saved list is a 16-byte header (the magic number {@code SLST}, a format
+ * version, the item count and the position of the offset table), then the
+ * UTF-8 bytes of every item one after another, then a table of
+ * {@code count + 1} byte offsets into those bytes, where item {@code i} runs
+ * from offset {@code i} to offset {@code i + 1}. Numbers are big-endian
+ * {@code int}s, so a whole file is at most 2 GiB.
+ *
+ * <p>
+ * The list is read-mostly: the first time it is changed it loads its items
+ * into its own {@link ArrayStringList}, the same way a {@link StringListView}
+ * does, and works on that from then on. The file is never written.
+ */
+public class MappedStringList extends BaseStringList implements RandomAccess {
+
+    private static final int MAGIC = 0x534C5354; // "SLST"
+    private static final int VERSION = 1;
+    private static final int HEADER = 16;
+
+    private final ByteBuffer map;
+    private final int table;
+
+    // The list's own items, made the first time the list is changed
+    private ArrayStringList copy;
+
+    /**
+     * Constructs a {@code MappedStringList} over the file at {@code path},
+     * which must have been written by {@link #save}.
+     *
+     * @param path is the file holding the saved list.
+     * @throws IOException when the file cannot be mapped or is not a saved list.
+     */
+    public MappedStringList(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to be a saved list");
+            } // if
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } // try
+
+        if (mapped.capacity() < HEADER || mapped.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not a saved list");
+        } // if
+        if (mapped.getInt(4) != VERSION) {
+            throw new IOException(path + " has unknown format version " + mapped.getInt(4));
+        } // if
+        int count = mapped.getInt(8);
+        int tablePosition = mapped.getInt(12);
+        if (count < 0 || tablePosition < HEADER
+            || (long) tablePosition + 4L * (count + 1) > mapped.capacity()) {
+            throw new IOException(path + " is truncated or damaged");
+        } // if
+        this.map = mapped;
+        this.table = tablePosition;
+        this.size = count;
+    } // MappedStringList
+
+    /**
+     * {@code save} writes {@code list} to the file at {@code path} in the
+     * format read by {@code MappedStringList}, replacing anything already
+     * there. Every item is encoded once and written through one buffer.
+     *
+     * <p>
+     * The list is written to a new file in the same directory, which is then
+     * moved over {@code path} in one step. A list still mapped from the old
+     * file, even the one being saved, keeps reading the old file, and a save
+     * that fails partway leaves the old file as it was.
+     *
+     * @param list is the list being saved.
+     * @param path is the file being written.
+     * @throws IOException when the file cannot be written, the list is too
+     * large for one file, or an item holds an unpaired surrogate.
+     */
+    public static void save(StringList list, Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path written = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            write(list, written);
+            Files.move(written, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(written);
+        } // try
+    } // save
+
+    /**
+     * {@code write} writes {@code list} into the empty file at {@code path}.
+     *
+     * @param list is the list being saved.
+     * @param path is the new file being written.
+     * @throws IOException when the file cannot be written or the list is
+     * too large for one file.
+     */
+    private static void write(StringList list, Path path) throws IOException {
+        int count = list.size();
+        int[] offsets = new int[count + 1];
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(0);
+
+            // Writing the items and remembering where each one starts
+            long written = 0;
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = utf8(list.get(i));
+                if (bytes == null) {
+                    throw new IOException("item " + i + " holds an unpaired surrogate, "
+                        + "which UTF-8 cannot store");
+                } // if
+                offsets[i] = (int) written;
+                written += bytes.length;
+                if (HEADER + written + 4L * (count + 2) > Integer.MAX_VALUE) {
+                    throw new IOException("the list is too large to save in one file");
+                } // if
+                put(channel, buffer, bytes);
+            } // for
+            offsets[count] = (int) written;
+
+            // Padding so the table starts on a 4-byte boundary
+            put(channel, buffer, new byte[(int) (-written & 3)]);
+            int tablePosition = (int) (HEADER + written + (-written & 3));
+            for (int offset : offsets) {
+                if (buffer.remaining() < 4) {
+                    flush(channel, buffer);
+                } // if
+                buffer.putInt(offset);
+            } // for
+            flush(channel, buffer);
+
+            ByteBuffer position = ByteBuffer.allocate(4).putInt(0, tablePosition);
+            channel.write(position, 12);
+            channel.force(false);
+        } // try
+    } // write
+
+    /**
+     * {@code put} adds {@code bytes} to {@code buffer}, writing the buffer
+     * out to {@code channel} whenever it fills up.
+     *
+     * @param channel is the file being written.
+     * @param buffer is the write buffer.
+     * @param bytes is the bytes being written.
+     * @throws IOException when the file cannot be written.
+     */
+    private static void put(FileChannel channel, ByteBuffer buffer, byte[] bytes)
+        throws IOException {
+        int done = 0;
+        while (done < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush(channel, buffer);
+            } // if
+            int chunk = Math.min(buffer.remaining(), bytes.length - done);
+            buffer.put(bytes, done, chunk);
+            done += chunk;
+        } // while
+    } // put
+
+    /**
+     * {@code flush} writes out everything in {@code buffer} and empties it.
+     *
+     * @param channel is the file being written.
+     * @param buffer is the write buffer.
+     * @throws IOException when the file cannot be written.
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        } // while
+        buffer.clear();
+    } // flush
+
+    /**
+     * {@code start} returns the file position of the first byte of item
+     * {@code index}.
+     *
+     * @param index is the index of the item.
+     * @return the file position where the item starts.
+     */
+    private int start(int index) {
+        return HEADER + map.getInt(table + 4 * index);
+    } // start
+
+    /**
+     * {@code decode} reads item {@code index} out of the file.
+     *
+     * @param index is the index of the item.
+     * @return the item.
+     */
+    private String decode(int index) {
+        int from = start(index);
+        byte[] bytes = new byte[start(index + 1) - from];
+        ByteBuffer record = map.duplicate();
+        record.position(from);
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    } // decode
+
+    /**
+     * {@code toArrayStringList} loads every item into a new
+     * {@link ArrayStringList}. The array is sized once for all of them, and
+     * the file is read from front to back through one reused buffer.
+     *
+     * @return a new list holding the same items.
+     */
+    public ArrayStringList toArrayStringList() {
+        if (copy != null) {
+            return new ArrayStringList(copy);
+        } // if
+        String[] loaded = new String[size];
+        ByteBuffer records = map.duplicate();
+        records.position(HEADER);
+        byte[] bytes = new byte[64];
+        int from = start(0);
+        for (int i = 0; i < size; i++) {
+            int to = start(i + 1);
+            int length = to - from;
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            } // if
+            records.get(bytes, 0, length);
+            loaded[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            from = to;
+        } // for
+        return new ArrayStringList(loaded);
+    } // toArrayStringList
+
+    /**
+     * {@code ownItems} loads the items out of the file the first time the
+     * list is changed.
+     *
+     * @return the list's own copy of its items.
+     */
+    private ArrayStringList ownItems() {
+        if (copy == null) {
+            copy = toArrayStringList();
+        } // if
+        return copy;
+    } // ownItems
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position. The items are loaded first; the file is not
+     * changed.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        boolean isAdded = ownItems().add(index, item);
+        size = copy.size();
+        modCount++;
+        return isAdded;
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} to the string list at
+     * the specified index position. The items are loaded first; the file is
+     * not changed.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        // Copying the items first in case items is this list
+        ArrayStringList incoming = new ArrayStringList(toArray(items));
+        boolean isAdded = ownItems().add(index, incoming);
+        size = copy.size();
+        modCount++;
+        return isAdded;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list. The file is not
+     * changed.
+     */
+    @Override
+    public void clear() {
+        copy = new ArrayStringList();
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list, decoding it from the file.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (copy != null) {
+            return copy.get(index);
+        } // if
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return decode(index);
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. The items are loaded first; the file is not changed.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        String removedString = ownItems().remove(index);
+        size = copy.size();
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code indexOf} looks for the first index from {@code start} on whose
+     * item is {@code target}. The target is encoded once and compared with
+     * the bytes in the file, so no items are decoded.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        if (copy != null) {
+            return copy.indexOf(start, target);
+        } // if
+        byte[] targetBytes = utf8(target);
+        if (targetBytes == null) {
+            return -1; // no saved item can hold an unpaired surrogate
+        } // if
+        for (int i = Math.max(start, 0); i < size; i++) {
+            int from = start(i);
+            if (start(i + 1) - from == targetBytes.length && matches(from, targetBytes)) {
+                return i;
+            } // if
+        } // for
+        return -1;
+    } // indexOf
+
+    /**
+     * {@code matches} checks whether the bytes at file position {@code from}
+     * are the bytes in {@code target}.
+     *
+     * @param from is the file position of the first byte compared.
+     * @param target is the UTF-8 bytes being looked for.
+     * @return true when the bytes are the same.
+     */
+    private boolean matches(int from, byte[] target) {
+        for (int i = 0; i < target.length; i++) {
+            if (map.get(from + i) != target[i]) {
+                return false;
+            } // if
+        } // for
+        return true;
+    } // matches
+
+    /**
+     * {@code slice} returns a view of the StringList from the {@code start}
+     * index (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return new StringListView(this, start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        String[] reversed = new String[size];
+        for (int i = 0; i < size; i++) {
+            reversed[size - 1 - i] = get(i);
+        } // for
+        return new ArrayStringList(reversed);
+    } // reverse
+
+    /**
+     * {@code slice} returns a view of the list from where the list starts
+     * (inclusive) to where it stops (exclusive), taking every {@code step}-th
+     * item. Nothing is decoded until the view is read.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        return new StringListView(this, start, stop, step);
+    } // slice
+
+} // MappedStringList
@@ -0,0 +1,180 @@
+package cs1302.p2;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * {@code MsdRadixSort} sorts strings into natural order by distributing them
+ * into buckets one byte at a time, starting from the first character, and then
+ * sorting each bucket the same way on the next byte. Each character is read as
+ * its high byte followed by its low byte, and a string that has run out of
+ * characters goes before every bucket, so the result is the same order as
+ * {@link String#compareTo}.
+ *
+ * <p>
+ * A high byte is counted together with its low byte, and when no string has
+ * a high byte set at that character (as in ASCII text) the high byte level is
+ * skipped, so such text takes one pass per character. Any level where every
+ * string falls in the same bucket is skipped without moving anything. Small
+ * ranges, and ranges whose strings still agree after {@link #MAX_DEPTH}
+ * bytes, are handed to {@link Arrays#sort}.
+ */
+final class MsdRadixSort {
+
+    private static final int RADIX = 256;
+
+    // Ranges this small are sorted by comparison instead
+    private static final int CUTOFF = 32;
+
+    // Ranges whose strings agree on this many bytes are sorted by comparison
+    private static final int MAX_DEPTH = 256;
+
+    // Ranges this large have their buckets sorted in parallel
+    private static final int PARALLEL_CUTOFF = 1 << 14;
+
+    /**
+     * There are no {@code MsdRadixSort} objects.
+     */
+    private MsdRadixSort() {
+    } // MsdRadixSort
+
+    /**
+     * {@code sortsNaturally} checks whether {@code comparator} asks for
+     * natural string order.
+     *
+     * @param comparator is the comparator given to a sort, which may be null.
+     * @return true when the comparator is null or the natural order comparator.
+     */
+    static boolean sortsNaturally(Comparator<? super String> comparator) {
+        return comparator == null || comparator == Comparator.naturalOrder();
+    } // sortsNaturally
+
+    /**
+     * {@code digit} returns byte {@code d} of {@code item}, counting each
+     * character as its high byte followed by its low byte.
+     *
+     * @param item is the string being sorted.
+     * @param d is the number of the byte.
+     * @return the byte, or -1 when the string has no byte {@code d}.
+     */
+    private static int digit(String item, int d) {
+        int index = d >>> 1;
+        if (index >= item.length()) {
+            return -1;
+        } // if
+        char c = item.charAt(index);
+        return (d & 1) == 0 ? c >>> 8 : c & 0xFF;
+    } // digit
+
+    /**
+     * {@code sort} sorts {@code items} from {@code from} (inclusive) to
+     * {@code to} (exclusive).
+     *
+     * @param items is the array being sorted.
+     * @param from is the first index sorted.
+     * @param to is one past the last index sorted.
+     */
+    static void sort(String[] items, int from, int to) {
+        sort(items, new String[to - from], from, from, to, 0, false);
+    } // sort
+
+    /**
+     * {@code parallelSort} sorts {@code items} from {@code from} (inclusive)
+     * to {@code to} (exclusive), sorting the buckets of large ranges on the
+     * common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param items is the array being sorted.
+     * @param from is the first index sorted.
+     * @param to is one past the last index sorted.
+     */
+    static void parallelSort(String[] items, int from, int to) {
+        sort(items, new String[to - from], from, from, to, 0, true);
+    } // parallelSort
+
+    /**
+     * {@code sort} sorts a range whose strings all agree before byte {@code d}.
+     *
+     * @param items is the array being sorted.
+     * @param aux is scratch space; index {@code i - base} belongs to index {@code i}.
+     * @param base is the first index of the whole sort.
+     * @param from is the first index sorted.
+     * @param to is one past the last index sorted.
+     * @param d is the first byte the strings may differ at.
+     * @param parallel is true when large buckets may be sorted in parallel.
+     */
+    private static void sort(String[] items, String[] aux, int base, int from, int to, int d,
+        boolean parallel) {
+        int length = to - from;
+        while (length > CUTOFF && d < MAX_DEPTH) {
+            // Counting the strings in each bucket; count[1] is the strings that ended
+            int[] count = new int[RADIX + 2];
+            if ((d & 1) == 0) {
+                // Counting by low byte, which is all that is needed if no high byte is set
+                int highBytes = 0;
+                int index = d >>> 1;
+                for (int i = from; i < to; i++) {
+                    String item = items[i];
+                    if (index < item.length()) {
+                        char c = item.charAt(index);
+                        highBytes |= c;
+                        count[(c & 0xFF) + 2]++;
+                    } else {
+                        count[1]++;
+                    } // if
+                } // for
+                if ((highBytes >>> 8) == 0) {
+                    d++;
+                } else {
+                    Arrays.fill(count, 0);
+                    for (int i = from; i < to; i++) {
+                        count[digit(items[i], d) + 2]++;
+                    } // for
+                } // if
+            } else {
+                for (int i = from; i < to; i++) {
+                    count[digit(items[i], d) + 2]++;
+                } // for
+            } // if
+            if (count[1] == length) {
+                return; // every string ended, so they are all equal
+            } // if
+
+            boolean oneBucket = false;
+            for (int r = 2; r < count.length; r++) {
+                if (count[r] == length) {
+                    oneBucket = true;
+                } // if
+            } // for
+            if (oneBucket) {
+                d++;
+                continue;
+            } // if
+
+            // Turning counts into bucket starts and moving the strings through aux
+            for (int r = 0; r < RADIX + 1; r++) {
+                count[r + 1] += count[r];
+            } // for
+            int offset = from - base;
+            for (int i = from; i < to; i++) {
+                aux[offset + count[digit(items[i], d) + 1]++] = items[i];
+            } // for
+            System.arraycopy(aux, offset, items, from, length);
+
+            // Bucket r now runs from count[r] to count[r + 1]
+            int[] bounds = count;
+            int next = d + 1;
+            if (parallel && length >= PARALLEL_CUTOFF) {
+                IntStream.range(0, RADIX).parallel().forEach(r -> sort(items, aux, base,
+                    from + bounds[r], from + bounds[r + 1], next, true));
+            } else {
+                for (int r = 0; r < RADIX; r++) {
+                    sort(items, aux, base, from + bounds[r], from + bounds[r + 1], next, false);
+                } // for
+            } // if
+            return;
+        } // while
+        Arrays.sort(items, from, to);
+    } // sort
+
+} // MsdRadixSort
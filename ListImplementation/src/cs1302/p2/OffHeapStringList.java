@@ -0,0 +1,349 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.RandomAccess;
+
+/**
+ * {@code OffHeapStringList} is a child class of {@link BaseStringList} that
+ * keeps its strings outside of the Java heap. Every string is written once
+ * into a direct {@link ByteBuffer} arena as a 4-byte length followed by its
+ * UTF-8 bytes, and an {@code int} array holds the arena offset of each index.
+ *
+ * <p>
+ * A {@code String} object is only made when {@code get} is called, so a
+ * large list costs the garbage collector one {@code int} per item instead of
+ * one {@code String} per item. {@code contains} and {@code indexOf} encode the
+ * target once and compare bytes in the arena without decoding any items.
+ */
+public class OffHeapStringList extends BaseStringList implements RandomAccess {
+
+    // The largest arena allocated; offsets are ints, and some JVMs refuse buffers nearer the limit
+    private static final int MAX_ARENA = Integer.MAX_VALUE - 8;
+
+    private ByteBuffer arena;
+    private int arenaEnd;
+    private int garbageBytes;
+    private int[] offsets;
+
+    /**
+     * Constructor to be able to instantiate {@code OffHeapStringList} objects.
+     */
+    public OffHeapStringList() {
+        arena = ByteBuffer.allocateDirect(4096);
+        arenaEnd = 0;
+        garbageBytes = 0;
+        offsets = new int[100];
+        size = 0;
+    } // OffHeapStringList
+
+    /**
+     * Copy constructor of {@code OffHeapStringList} objects so it can create
+     * deep copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public OffHeapStringList(StringList other) {
+        this();
+        for (int i = 0; i < other.size(); i++) {
+            this.append(other.get(i));
+        } // for
+    } // OffHeapStringList
+
+    /**
+     * {@code ensureArena} makes sure {@code extra} more bytes fit at the end of
+     * the arena. Unused bytes left by removed items are reclaimed first if they
+     * take up more than half of the arena; otherwise the arena is doubled, up
+     * to {@link #MAX_ARENA} bytes.
+     *
+     * @param extra is the number of bytes about to be written.
+     * @throws OutOfMemoryError when the live items and {@code extra} more bytes
+     * would not fit in an arena of {@link #MAX_ARENA} bytes.
+     */
+    private void ensureArena(long extra) {
+        if (arenaEnd + extra <= arena.capacity()) {
+            return;
+        } // if
+
+        long needed = arenaEnd - garbageBytes + extra;
+        if (needed > MAX_ARENA) {
+            throw new OutOfMemoryError("the items would take more than " + MAX_ARENA
+                + " bytes of arena");
+        } // if
+        long newCapacity = arena.capacity();
+        if (garbageBytes * 2L < arenaEnd || needed > newCapacity) {
+            newCapacity *= 2;
+        } // if
+        while (newCapacity < needed) {
+            newCapacity *= 2;
+        } // while
+        newCapacity = Math.min(newCapacity, MAX_ARENA);
+
+        // Copying only the live records, in index order, into the new arena
+        ByteBuffer newArena = ByteBuffer.allocateDirect((int) newCapacity);
+        int newEnd = 0;
+        for (int i = 0; i < size; i++) {
+            int recordLength = 4 + arena.getInt(offsets[i]);
+            ByteBuffer record = arena.duplicate();
+            record.limit(offsets[i] + recordLength).position(offsets[i]);
+            newArena.position(newEnd);
+            newArena.put(record);
+            offsets[i] = newEnd;
+            newEnd += recordLength;
+        } // for
+        arena = newArena;
+        arenaEnd = newEnd;
+        garbageBytes = 0;
+    } // ensureArena
+
+    /**
+     * {@code ensureOffsets} makes sure the offset array can hold at least
+     * {@code minCapacity} items.
+     *
+     * @param minCapacity is the number of items the array must be able to hold.
+     */
+    private void ensureOffsets(int minCapacity) {
+        if (minCapacity > offsets.length) {
+            int[] newOffsets = new int[Math.max(minCapacity, offsets.length * 2)];
+            System.arraycopy(offsets, 0, newOffsets, 0, size);
+            offsets = newOffsets;
+        } // if
+    } // ensureOffsets
+
+    /**
+     * {@code writeRecord} writes a length-prefixed record at the end of the arena.
+     *
+     * @param bytes is the UTF-8 bytes of the item.
+     * @return the arena offset of the new record.
+     */
+    private int writeRecord(byte[] bytes) {
+        ensureArena(4L + bytes.length);
+        int offset = arenaEnd;
+        arena.putInt(offset, bytes.length);
+        arena.position(offset + 4);
+        arena.put(bytes);
+        arenaEnd += 4 + bytes.length;
+        return offset;
+    } // writeRecord
+
+    /**
+     * {@code copyRecord} copies the record at {@code offset} of another list's
+     * arena to the end of this arena without decoding it.
+     *
+     * @param from is the list whose arena holds the record.
+     * @param offset is the arena offset of the record in {@code from}.
+     */
+    private void copyRecord(OffHeapStringList from, int offset) {
+        int recordLength = 4 + from.arena.getInt(offset);
+        ensureArena(recordLength);
+        ByteBuffer record = from.arena.duplicate();
+        record.limit(offset + recordLength).position(offset);
+        arena.position(arenaEnd);
+        arena.put(record);
+        ensureOffsets(size + 1);
+        offsets[size] = arenaEnd;
+        arenaEnd += recordLength;
+        size++;
+        modCount++;
+    } // copyRecord
+
+    /**
+     * {@code matches} checks whether the record at {@code offset} holds exactly
+     * the bytes in {@code target}.
+     *
+     * @param offset is the arena offset of the record.
+     * @param target is the UTF-8 bytes being looked for.
+     * @return true when the record holds the same bytes.
+     */
+    private boolean matches(int offset, byte[] target) {
+        if (arena.getInt(offset) != target.length) {
+            return false;
+        } // if
+        int start = offset + 4;
+        for (int i = 0; i < target.length; i++) {
+            if (arena.get(start + i) != target[i]) {
+                return false;
+            } // if
+        } // for
+        return true;
+    } // matches
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position. The item is encoded to the end of the arena
+     * and only the offsets after {@code index} are shifted.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     * @throws IllegalArgumentException when the item is empty or holds an
+     * unpaired surrogate, which UTF-8 cannot store.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+
+        byte[] bytes = utf8(item);
+        if (bytes == null) {
+            throw new IllegalArgumentException("the item holds an unpaired surrogate");
+        } // if
+
+        int offset = writeRecord(bytes);
+        ensureOffsets(size + 1);
+        System.arraycopy(offsets, index, offsets, index + 1, size - index);
+        offsets[index] = offset;
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list. The arena is kept
+     * and written over from the start.
+     */
+    @Override
+    public void clear() {
+        arenaEnd = 0;
+        garbageBytes = 0;
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list, decoding it from the arena.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        int offset = offsets[index];
+        byte[] bytes = new byte[arena.getInt(offset)];
+        ByteBuffer record = arena.duplicate();
+        record.position(offset + 4);
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. The record's bytes stay in the arena until the arena
+     * next has to grow, when they are reclaimed.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        String removedString = get(index);
+        garbageBytes += 4 + arena.getInt(offsets[index]);
+        System.arraycopy(offsets, index + 1, offsets, index, size - index - 1);
+        size--;
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code contains} looks for a {@code target} string in the StringList
+     * starting from the {@code start} index, comparing encoded bytes.
+     *
+     * @return true when the {@code target} is found in the list.
+     */
+    @Override
+    public boolean contains(int start, String target) {
+        return start >= 0 && indexOf(start, target) != -1;
+    } // contains
+
+    /**
+     * {@code indexOf} looks for the first index from {@code start} on whose
+     * item is {@code target}. The target is encoded once and each record is
+     * compared byte by byte without being decoded.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        byte[] targetBytes = utf8(target);
+        if (targetBytes == null) {
+            return -1; // no item can hold an unpaired surrogate
+        } // if
+        for (int i = Math.max(start, 0); i < size; i++) {
+            if (matches(offsets[i], targetBytes)) {
+                return i;
+            } // if
+        } // for
+        return -1;
+    } // indexOf
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list. Records
+     * are copied as raw bytes into a new arena.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        OffHeapStringList reversedList = new OffHeapStringList();
+        for (int i = size - 1; i >= 0; i--) {
+            reversedList.copyRecord(this, offsets[i]);
+        } // for
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size. Records are copied as raw bytes into a new arena.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        OffHeapStringList slicedList = new OffHeapStringList();
+        for (int i = start; i < stop; i += step) {
+            slicedList.copyRecord(this, offsets[i]);
+        } // for
+        return slicedList;
+    } // slice
+
+} // OffHeapStringList
@@ -0,0 +1,596 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code PersistentStringList} is a child class of {@link BaseStringList}
+ * that stores its strings in an immutable, height-balanced binary tree
+ * ordered by index. Every node knows the size of its subtree, so an index
+ * is found in O(log n) steps.
+ *
+ * <p>
+ * Nodes are never changed once made. A change copies only the O(log n) nodes
+ * on the path to the changed index and shares every other node with the old
+ * tree. That makes {@link #snapshot} O(1), and {@code add}, {@code remove},
+ * {@code slice} and {@link #concat} O(log n). A snapshot never sees changes
+ * made to the list afterwards, so it can be handed to other threads safely.
+ */
+public class PersistentStringList extends BaseStringList {
+
+    /**
+     * {@code TreeNode} is one immutable node of the tree. An empty tree is
+     * represented by {@code null}.
+     */
+    private static final class TreeNode {
+
+        private final TreeNode left;
+        private final String item;
+        private final TreeNode right;
+        private final int height;
+        private final int size;
+
+        /**
+         * Constructs a {@code TreeNode} with {@code item} between two subtrees.
+         *
+         * @param left is the subtree of items before {@code item}.
+         * @param item is the item stored in the node.
+         * @param right is the subtree of items after {@code item}.
+         */
+        TreeNode(TreeNode left, String item, TreeNode right) {
+            this.left = left;
+            this.item = item;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        } // TreeNode
+
+    } // TreeNode
+
+    private TreeNode root;
+
+    /**
+     * Constructor to be able to instantiate {@code PersistentStringList} objects.
+     */
+    public PersistentStringList() {
+        root = null;
+        size = 0;
+    } // PersistentStringList
+
+    /**
+     * Copy constructor of {@code PersistentStringList} objects. Copying another
+     * {@code PersistentStringList} shares its tree in O(1); copying any other
+     * StringList builds a balanced tree in O(n).
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public PersistentStringList(StringList other) {
+        this(other instanceof PersistentStringList
+            ? ((PersistentStringList) other).root
+            : build(toArray(other), 0, other.size()));
+    } // PersistentStringList
+
+    /**
+     * Constructs a {@code PersistentStringList} holding an existing tree.
+     *
+     * @param root is the root of the tree.
+     */
+    private PersistentStringList(TreeNode root) {
+        this.root = root;
+        this.size = size(root);
+    } // PersistentStringList
+
+    /**
+     * {@code height} returns the height of a tree.
+     *
+     * @param node is the root of the tree.
+     * @return the height of the tree, which is 0 for an empty tree.
+     */
+    private static int height(TreeNode node) {
+        return node == null ? 0 : node.height;
+    } // height
+
+    /**
+     * {@code size} returns the number of items in a tree.
+     *
+     * @param node is the root of the tree.
+     * @return the number of items in the tree.
+     */
+    private static int size(TreeNode node) {
+        return node == null ? 0 : node.size;
+    } // size
+
+    /**
+     * {@code build} builds a perfectly balanced tree from part of an array.
+     *
+     * @param items is the array of items.
+     * @param from is the first index used (inclusive).
+     * @param to is the last index used (exclusive).
+     * @return the root of the new tree.
+     */
+    private static TreeNode build(String[] items, int from, int to) {
+        if (from >= to) {
+            return null;
+        } // if
+        int middle = (from + to) >>> 1;
+        return new TreeNode(build(items, from, middle), items[middle],
+            build(items, middle + 1, to));
+    } // build
+
+    /**
+     * {@code balance} makes a node out of two subtrees whose heights differ by
+     * at most three, rotating once or twice so that they differ by at most two.
+     *
+     * @param left is the subtree of items before {@code item}.
+     * @param item is the item stored in the new node.
+     * @param right is the subtree of items after {@code item}.
+     * @return the root of the balanced tree.
+     */
+    private static TreeNode balance(TreeNode left, String item, TreeNode right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 2) {
+            if (height(left.left) >= height(left.right)) {
+                return new TreeNode(left.left, left.item, new TreeNode(left.right, item, right));
+            } // if
+            TreeNode middle = left.right;
+            return new TreeNode(new TreeNode(left.left, left.item, middle.left), middle.item,
+                new TreeNode(middle.right, item, right));
+        } else if (rightHeight > leftHeight + 2) {
+            if (height(right.right) >= height(right.left)) {
+                return new TreeNode(new TreeNode(left, item, right.left), right.item, right.right);
+            } // if
+            TreeNode middle = right.left;
+            return new TreeNode(new TreeNode(left, item, middle.left), middle.item,
+                new TreeNode(middle.right, right.item, right.right));
+        } // if
+        return new TreeNode(left, item, right);
+    } // balance
+
+    /**
+     * {@code join} makes a tree holding the items of {@code left}, then
+     * {@code item}, then the items of {@code right}, whatever their heights.
+     * It runs in time proportional to the difference in heights.
+     *
+     * @param left is the tree of items before {@code item}.
+     * @param item is the middle item.
+     * @param right is the tree of items after {@code item}.
+     * @return the root of the joined tree.
+     */
+    private static TreeNode join(TreeNode left, String item, TreeNode right) {
+        if (height(left) > height(right) + 2) {
+            return balance(left.left, left.item, join(left.right, item, right));
+        } else if (height(right) > height(left) + 2) {
+            return balance(join(left, item, right.left), right.item, right.right);
+        } // if
+        return new TreeNode(left, item, right);
+    } // join
+
+    /**
+     * {@code concat} joins two trees end to end.
+     *
+     * @param left is the tree of items that come first.
+     * @param right is the tree of items that come after.
+     * @return the root of the joined tree.
+     */
+    private static TreeNode concat(TreeNode left, TreeNode right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } // if
+        return join(left, first(right), removeAt(right, 0));
+    } // concat
+
+    /**
+     * {@code first} returns the first item of a non-empty tree.
+     *
+     * @param node is the root of the tree.
+     * @return the first item in the tree.
+     */
+    private static String first(TreeNode node) {
+        while (node.left != null) {
+            node = node.left;
+        } // while
+        return node.item;
+    } // first
+
+    /**
+     * {@code split} splits a tree into the items before {@code index} and the
+     * items from {@code index} on.
+     *
+     * @param node is the root of the tree.
+     * @param index is the number of items that go in the first tree.
+     * @return an array holding the first tree and then the second tree.
+     */
+    private static TreeNode[] split(TreeNode node, int index) {
+        if (node == null) {
+            return new TreeNode[] {null, null};
+        } // if
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            TreeNode[] parts = split(node.left, index);
+            parts[1] = join(parts[1], node.item, node.right);
+            return parts;
+        } // if
+        TreeNode[] parts = split(node.right, index - leftSize - 1);
+        parts[0] = join(node.left, node.item, parts[0]);
+        return parts;
+    } // split
+
+    /**
+     * {@code insertAt} returns a tree with {@code item} inserted at {@code index}.
+     *
+     * @param node is the root of the tree.
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return the root of the new tree.
+     */
+    private static TreeNode insertAt(TreeNode node, int index, String item) {
+        if (node == null) {
+            return new TreeNode(null, item, null);
+        } // if
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insertAt(node.left, index, item), node.item, node.right);
+        } // if
+        return balance(node.left, node.item, insertAt(node.right, index - leftSize - 1, item));
+    } // insertAt
+
+    /**
+     * {@code removeAt} returns a tree without the item at {@code index}.
+     *
+     * @param node is the root of the tree.
+     * @param index is the index of the item that is removed.
+     * @return the root of the new tree.
+     */
+    private static TreeNode removeAt(TreeNode node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node.item, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.item, removeAt(node.right, index - leftSize - 1));
+        } else if (node.right == null) {
+            return node.left;
+        } // if
+        return balance(node.left, first(node.right), removeAt(node.right, 0));
+    } // removeAt
+
+    /**
+     * {@code setAt} returns a tree with the item at {@code index} replaced.
+     *
+     * @param node is the root of the tree.
+     * @param index is the index of the item that is replaced.
+     * @param item is the new item.
+     * @return the root of the new tree.
+     */
+    private static TreeNode setAt(TreeNode node, int index, String item) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new TreeNode(setAt(node.left, index, item), node.item, node.right);
+        } else if (index > leftSize) {
+            return new TreeNode(node.left, node.item,
+                setAt(node.right, index - leftSize - 1, item));
+        } // if
+        return new TreeNode(node.left, item, node.right);
+    } // setAt
+
+    /**
+     * {@code checkItem} checks that an {@code item} is allowed in the list.
+     *
+     * @param item is the String item that is checked.
+     * @throws NullPointerException when the item is null.
+     * @throws IllegalArgumentException when the item is the empty string.
+     */
+    private static void checkItem(String item) {
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+    } // checkItem
+
+    /**
+     * {@code setRoot} replaces the tree of this list.
+     *
+     * @param newRoot is the root of the new tree.
+     */
+    private void setRoot(TreeNode newRoot) {
+        root = newRoot;
+        size = size(newRoot);
+        modCount++;
+    } // setRoot
+
+    /**
+     * {@code snapshot} returns an independent copy of the list in O(1). The
+     * copy shares this list's tree, and later changes to either list are not
+     * seen by the other.
+     *
+     * @return a copy of the list.
+     */
+    public PersistentStringList snapshot() {
+        return new PersistentStringList(root);
+    } // snapshot
+
+    /**
+     * {@code withAdded} returns a new list with {@code item} inserted at
+     * {@code index}. This list is not changed.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return the new list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    public PersistentStringList withAdded(int index, String item) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        checkItem(item);
+        return new PersistentStringList(insertAt(root, index, item));
+    } // withAdded
+
+    /**
+     * {@code withRemoved} returns a new list without the item at {@code index}.
+     * This list is not changed.
+     *
+     * @param index is the index of the string that is removed.
+     * @return the new list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    public PersistentStringList withRemoved(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return new PersistentStringList(removeAt(root, index));
+    } // withRemoved
+
+    /**
+     * {@code with} returns a new list with the item at {@code index} replaced
+     * by {@code item}. This list is not changed.
+     *
+     * @param index is the index of the item that is replaced.
+     * @param item is the new item.
+     * @return the new list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    public PersistentStringList with(int index, String item) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        checkItem(item);
+        return new PersistentStringList(setAt(root, index, item));
+    } // with
+
+    /**
+     * {@code concat} returns a new list holding the items of this list followed
+     * by the items of {@code other}. Neither list is changed. When {@code other}
+     * is a {@code PersistentStringList} this takes O(log n).
+     *
+     * @param other is the list whose items come last.
+     * @return the new list.
+     */
+    public PersistentStringList concat(StringList other) {
+        return new PersistentStringList(concat(root, treeOf(other)));
+    } // concat
+
+    /**
+     * {@code treeOf} returns a tree holding the items of {@code items}, sharing
+     * the tree directly when {@code items} is a {@code PersistentStringList}.
+     *
+     * @param items is the StringList whose items are used.
+     * @return the root of a tree holding the items.
+     */
+    private static TreeNode treeOf(StringList items) {
+        if (items instanceof PersistentStringList) {
+            return ((PersistentStringList) items).root;
+        } // if
+        return build(toArray(items), 0, items.size());
+    } // treeOf
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        setRoot(withAdded(index, item).root);
+        return true;
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} to the string list at the
+     * specified index position. This list is split once at {@code index} and
+     * the pieces are joined around the new items.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        if (items.isEmpty()) {
+            return false;
+        } // if
+
+        TreeNode[] parts = split(root, index);
+        setRoot(concat(concat(parts[0], treeOf(items)), parts[1]));
+        return true;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        setRoot(null);
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        TreeNode node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.item;
+            } // if
+        } // while
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        String removedString = get(index);
+        setRoot(removeAt(root, index));
+        return removedString;
+    } // remove
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive). The new list shares
+     * nodes with this list and is made in O(log n).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        String[] reversed = new String[size];
+        int i = size - 1;
+        for (String item : this) {
+            reversed[i] = item;
+            i--;
+        } // for
+        return new PersistentStringList(build(reversed, 0, reversed.length));
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size. A step of 1 shares nodes with this list and takes
+     * O(log n); other steps build a new tree from the chosen items.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        TreeNode sliced = split(split(root, stop)[0], start)[1];
+        if (step == 1) {
+            return new PersistentStringList(sliced);
+        } // if
+
+        String[] chosen = new String[(stop - start + step - 1) / step];
+        int i = 0;
+        for (String item : new PersistentStringList(sliced)) {
+            if (i % step == 0) {
+                chosen[i / step] = item;
+            } // if
+            i++;
+        } // for
+        return new PersistentStringList(build(chosen, 0, chosen.length));
+    } // slice
+
+    /**
+     * {@code iterator} returns a fail-fast iterator that walks the tree in
+     * order, keeping the path to the next item on a stack.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private final Deque<TreeNode> path = new ArrayDeque<>();
+            private final int expectedModCount = modCount;
+
+            {
+                pushLeft(root);
+            }
+
+            /**
+             * {@code pushLeft} pushes {@code node} and its chain of left children.
+             *
+             * @param node is the first node pushed.
+             */
+            private void pushLeft(TreeNode node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                } // for
+            } // pushLeft
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            } // hasNext
+
+            @Override
+            public String next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } // if
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                } // if
+                TreeNode node = path.pop();
+                pushLeft(node.right);
+                return node.item;
+            } // next
+        };
+    } // iterator
+
+} // PersistentStringList
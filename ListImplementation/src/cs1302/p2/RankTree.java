@@ -0,0 +1,195 @@
+package cs1302.p2;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code RankTree} keeps one node per list position, in list order, so that
+ * a node can be asked where it is now. It is a treap: a binary tree in list
+ * order that is also a heap on random priorities, which keeps it balanced
+ * with high probability. Every node records how many nodes are below it and
+ * which node is above it, so inserting or removing at a position and finding
+ * the position of a node all take expected O(log n).
+ *
+ * <p>
+ * Inserting or removing shifts the position of every later node without
+ * touching them, and the nodes before and after an edit stay in the same
+ * order. Anything that sorts nodes by position therefore stays sorted.
+ */
+final class RankTree {
+
+    /**
+     * {@code Node} is one position in the list.
+     */
+    static final class Node {
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private Node parent;
+        private int count = 1;
+    } // Node
+
+    private Node root;
+
+    // The two halves produced by the last split
+    private Node splitLeft;
+    private Node splitRight;
+
+    /**
+     * {@code size} is the number of nodes in the tree.
+     *
+     * @return the number of nodes.
+     */
+    int size() {
+        return count(root);
+    } // size
+
+    /**
+     * {@code clear} removes every node.
+     */
+    void clear() {
+        root = null;
+    } // clear
+
+    /**
+     * {@code insert} inserts a new node at {@code position}, moving the node
+     * there and every node after it one position later.
+     *
+     * @param position is a position from 0 to {@code size()} (inclusive).
+     * @return the new node.
+     */
+    Node insert(int position) {
+        Node added = new Node();
+        split(root, position);
+        Node after = splitRight;
+        root = merge(merge(splitLeft, added), after);
+        root.parent = null;
+        return added;
+    } // insert
+
+    /**
+     * {@code remove} removes the node at {@code position}, moving every node
+     * after it one position earlier.
+     *
+     * @param position is a position from 0 (inclusive) to {@code size()} (exclusive).
+     */
+    void remove(int position) {
+        split(root, position);
+        Node before = splitLeft;
+        split(splitRight, 1);
+        root = merge(before, splitRight);
+        if (root != null) {
+            root.parent = null;
+        } // if
+    } // remove
+
+    /**
+     * {@code nodeAt} returns the node at {@code position}.
+     *
+     * @param position is a position from 0 (inclusive) to {@code size()} (exclusive).
+     * @return the node at that position.
+     */
+    Node nodeAt(int position) {
+        Node node = root;
+        while (count(node.left) != position) {
+            if (position < count(node.left)) {
+                node = node.left;
+            } else {
+                position -= count(node.left) + 1;
+                node = node.right;
+            } // if
+        } // while
+        return node;
+    } // nodeAt
+
+    /**
+     * {@code positionOf} returns where {@code node} is now, counting the
+     * nodes before it on the way up to the root.
+     *
+     * @param node is a node in the tree.
+     * @return the position of the node.
+     */
+    static int positionOf(Node node) {
+        int position = count(node.left);
+        for (Node at = node; at.parent != null; at = at.parent) {
+            if (at == at.parent.right) {
+                position += count(at.parent.left) + 1;
+            } // if
+        } // for
+        return position;
+    } // positionOf
+
+    /**
+     * {@code count} is the number of nodes in the subtree under {@code node}.
+     *
+     * @param node is the top of the subtree, or null.
+     * @return the number of nodes in the subtree.
+     */
+    private static int count(Node node) {
+        return node == null ? 0 : node.count;
+    } // count
+
+    /**
+     * {@code update} recounts {@code node} and points its children back at it.
+     *
+     * @param node is the node whose children changed.
+     */
+    private static void update(Node node) {
+        node.count = 1 + count(node.left) + count(node.right);
+        if (node.left != null) {
+            node.left.parent = node;
+        } // if
+        if (node.right != null) {
+            node.right.parent = node;
+        } // if
+    } // update
+
+    /**
+     * {@code split} splits the subtree under {@code node} into its first
+     * {@code k} nodes, left in {@link #splitLeft}, and the rest, left in
+     * {@link #splitRight}.
+     *
+     * @param node is the top of the subtree, or null.
+     * @param k is how many nodes go to the left half.
+     */
+    private void split(Node node, int k) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+        } else if (count(node.left) < k) {
+            split(node.right, k - count(node.left) - 1);
+            node.right = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(node.left, k);
+            node.left = splitRight;
+            update(node);
+            splitRight = node;
+        } // if
+    } // split
+
+    /**
+     * {@code merge} joins two subtrees, every node of {@code first} coming
+     * before every node of {@code second}.
+     *
+     * @param first is the top of the earlier subtree, or null.
+     * @param second is the top of the later subtree, or null.
+     * @return the top of the joined subtree.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        } else if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            update(first);
+            return first;
+        } else {
+            second.left = merge(first, second.left);
+            update(second);
+            return second;
+        } // if
+    } // merge
+
+} // RankTree
@@ -0,0 +1,425 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code SkipListStringList} is a child class of {@link BaseStringList} that
+ * keeps its items in an indexable skip list. Every node is linked to the next
+ * node on level 0, like a {@link LinkedStringList}, and to nodes further
+ * along on each higher level it reaches. Each forward link also records its
+ * width, the number of items it jumps over, so finding the node at an index
+ * takes expected O(log n) steps: {@code get}, {@code add} and {@code remove}
+ * all run in expected O(log n) instead of walking from the head.
+ *
+ * <p>
+ * A node reaches each next level with probability 1/4, which keeps the
+ * extra links to about a third of a link per item. Iterating, searching and
+ * appending many items at the end walk level 0 directly.
+ */
+public class SkipListStringList extends BaseStringList {
+
+    private static final int MAX_LEVEL = 16;
+
+    /**
+     * {@code SkipNode} is one item and its forward links. {@code next[l]} is
+     * the next node on level {@code l}, and {@code width[l]} is how many
+     * positions further along it is; a null link reaches one past the end.
+     */
+    private static final class SkipNode {
+        final String item;
+        final SkipNode[] next;
+        final int[] width;
+
+        /**
+         * Constructs a {@code SkipNode} that reaches {@code levels} levels.
+         *
+         * @param item is the item, or null for the head.
+         * @param levels is the number of levels.
+         */
+        SkipNode(String item, int levels) {
+            this.item = item;
+            this.next = new SkipNode[levels];
+            this.width = new int[levels];
+        } // SkipNode
+    } // SkipNode
+
+    // The head sits at position 0 and item i at position i + 1
+    private final SkipNode head = new SkipNode(null, MAX_LEVEL);
+
+    // The number of levels any node reaches
+    private int levels;
+
+    // Reused by every search for the last node before a position on each level
+    private final SkipNode[] before = new SkipNode[MAX_LEVEL];
+    private final int[] beforePosition = new int[MAX_LEVEL];
+
+    /**
+     * Constructor to be able to instantiate {@code SkipListStringList} objects.
+     */
+    public SkipListStringList() {
+        clearLinks();
+    } // SkipListStringList
+
+    /**
+     * Copy constructor of {@code SkipListStringList} objects so it can create
+     * copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public SkipListStringList(StringList other) {
+        this();
+        appendAll(toArray(other));
+    } // SkipListStringList
+
+    /**
+     * {@code clearLinks} empties the list.
+     */
+    private void clearLinks() {
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            head.next[l] = null;
+            head.width[l] = 1;
+        } // for
+        Arrays.fill(before, null);
+        levels = 1;
+        size = 0;
+    } // clearLinks
+
+    /**
+     * {@code randomLevels} picks how many levels a new node reaches: 1, and
+     * one more with probability 1/4 each time, up to {@link #MAX_LEVEL}.
+     *
+     * @return the number of levels.
+     */
+    private static int randomLevels() {
+        int bits = ThreadLocalRandom.current().nextInt() | 1 << (2 * (MAX_LEVEL - 1));
+        return 1 + Integer.numberOfTrailingZeros(bits) / 2;
+    } // randomLevels
+
+    /**
+     * {@code findBefore} finds, on every level, the last node before
+     * {@code position}.
+     *
+     * @param position is a position from 1 to {@code size + 1}.
+     * @param found is filled with the last node before the position on each level.
+     * @param foundPosition is filled with the positions of those nodes.
+     */
+    private void findBefore(int position, SkipNode[] found, int[] foundPosition) {
+        SkipNode node = head;
+        int at = 0;
+        for (int l = MAX_LEVEL - 1; l >= 0; l--) {
+            while (node.next[l] != null && at + node.width[l] < position) {
+                at += node.width[l];
+                node = node.next[l];
+            } // while
+            found[l] = node;
+            foundPosition[l] = at;
+        } // for
+    } // findBefore
+
+    /**
+     * {@code nodeAt} returns the node holding the item at {@code index}.
+     *
+     * @param index is an index from 0 (inclusive) to {@code size} (exclusive).
+     * @return the node.
+     */
+    private SkipNode nodeAt(int index) {
+        int position = index + 1;
+        SkipNode node = head;
+        int at = 0;
+        for (int l = levels - 1; l >= 0; l--) {
+            while (node.next[l] != null && at + node.width[l] <= position) {
+                at += node.width[l];
+                node = node.next[l];
+            } // while
+            if (at == position) {
+                return node;
+            } // if
+        } // for
+        return node;
+    } // nodeAt
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+
+        int position = index + 1;
+        findBefore(position, before, beforePosition);
+
+        SkipNode added = new SkipNode(item, randomLevels());
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            if (l < added.next.length) {
+                // Splitting the link that jumped over the new position
+                int reach = beforePosition[l] + before[l].width[l];
+                added.next[l] = before[l].next[l];
+                added.width[l] = reach + 1 - position;
+                before[l].next[l] = added;
+                before[l].width[l] = position - beforePosition[l];
+            } else {
+                before[l].width[l]++;
+            } // if
+        } // for
+        levels = Math.max(levels, added.next.length);
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} to the string list at
+     * the specified index position. Items added at the end are linked in one
+     * walk along the end of the list.
+     *
+     * @param index is the index position where the items are to be inserted.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        if (index != size()) {
+            return super.add(index, items);
+        } // if
+        String[] incoming = toArray(items);
+        appendAll(incoming);
+        return incoming.length != 0;
+    } // add
+
+    /**
+     * {@code appendAll} links {@code items} onto the end of the list, keeping
+     * the last node of every level so each item is linked in O(1).
+     *
+     * @param items is the items being appended, which must not be null or empty.
+     */
+    private void appendAll(String[] items) {
+        for (String item : items) {
+            if (item == null) {
+                throw new NullPointerException();
+            } // if
+            if (item.equals("")) {
+                throw new IllegalArgumentException();
+            } // if
+        } // for
+
+        // Finding the last node on every level
+        SkipNode[] last = new SkipNode[MAX_LEVEL];
+        int[] lastPosition = new int[MAX_LEVEL];
+        findBefore(size + 1, last, lastPosition);
+
+        int position = size;
+        for (String item : items) {
+            position++;
+            SkipNode added = new SkipNode(item, randomLevels());
+            for (int l = 0; l < added.next.length; l++) {
+                last[l].next[l] = added;
+                last[l].width[l] = position - lastPosition[l];
+                last[l] = added;
+                lastPosition[l] = position;
+            } // for
+            levels = Math.max(levels, added.next.length);
+        } // for
+
+        // The last node on every level now reaches one past the new end
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            last[l].width[l] = position + 1 - lastPosition[l];
+        } // for
+        size = position;
+        modCount++;
+    } // appendAll
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        clearLinks();
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return nodeAt(index).item;
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. The links that reached the removed node are joined to
+     * the links that left it.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        findBefore(index + 1, before, beforePosition);
+
+        SkipNode removed = before[0].next[0];
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            if (l < removed.next.length) {
+                before[l].next[l] = removed.next[l];
+                before[l].width[l] += removed.width[l] - 1;
+            } else {
+                before[l].width[l]--;
+            } // if
+        } // for
+        while (levels > 1 && head.next[levels - 1] == null) {
+            levels--;
+        } // while
+        size--;
+        modCount++;
+        return removed.item;
+    } // remove
+
+    /**
+     * {@code indexOf} looks for the first index from {@code start} on whose
+     * item is {@code target}, finding the start in O(log n) and then walking
+     * level 0.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        int index = Math.max(start, 0);
+        if (index >= size) {
+            return -1;
+        } // if
+        for (SkipNode node = nodeAt(index); node != null; node = node.next[0], index++) {
+            if (node.item.equals(target)) {
+                return index;
+            } // if
+        } // for
+        return -1;
+    } // indexOf
+
+    /**
+     * {@code slice} returns a view of the StringList from the {@code start}
+     * index (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return new StringListView(this, start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        String[] reversed = new String[size];
+        int i = size - 1;
+        for (SkipNode node = head.next[0]; node != null; node = node.next[0], i--) {
+            reversed[i] = node.item;
+        } // for
+        SkipListStringList reversedList = new SkipListStringList();
+        reversedList.appendAll(reversed);
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns a view of the list from where the list starts
+     * (inclusive) to where it stops (exclusive), taking every {@code step}-th
+     * item.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        return new StringListView(this, start, stop, step);
+    } // slice
+
+    /**
+     * {@code iterator} returns a fail-fast iterator that walks level 0 from
+     * the head.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private SkipNode current = head.next[0];
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            } // hasNext
+
+            @Override
+            public String next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } // if
+                if (current == null) {
+                    throw new NoSuchElementException();
+                } // if
+                String nextItem = current.item;
+                current = current.next[0];
+                return nextItem;
+            } // next
+        };
+    } // iterator
+
+    /**
+     * {@code spliterator} returns a spliterator over the items in the list.
+     * Splitting copies batches from the iterator into arrays.
+     *
+     * @return a SIZED and ORDERED spliterator over the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
+
+} // SkipListStringList
@@ -0,0 +1,332 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@code SortedStringList} is a child class of {@link BaseStringList} that
+ * keeps its strings sorted, in natural order or by a {@link Comparator}.
+ * Because the order is fixed by the strings themselves, {@code add},
+ * {@code append} and {@code prepend} put each item at its sorted position;
+ * the index given to {@code add} is only checked to be in range.
+ *
+ * <p>
+ * {@code contains} and {@code indexOf} binary search the array in O(log n).
+ * Adding a list of items sorts them if they are not sorted already and then
+ * merges them in with a single pass from the back of the array, so only the
+ * items that end up after the smallest new item are moved.
+ */
+public class SortedStringList extends BaseStringList implements RandomAccess {
+
+    private final Comparator<? super String> comparator;
+    private String[] items;
+
+    /**
+     * Constructor to be able to instantiate {@code SortedStringList} objects
+     * that keep their strings in natural order.
+     */
+    public SortedStringList() {
+        this(Comparator.naturalOrder());
+    } // SortedStringList
+
+    /**
+     * Constructs an empty {@code SortedStringList} that keeps its strings in
+     * the order given by {@code comparator}.
+     *
+     * @param comparator is the order of the strings.
+     */
+    public SortedStringList(Comparator<? super String> comparator) {
+        this.comparator = comparator;
+        this.items = new String[100];
+        this.size = 0;
+    } // SortedStringList
+
+    /**
+     * Copy constructor of {@code SortedStringList} objects so it can create
+     * sorted copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public SortedStringList(StringList other) {
+        this();
+        this.add(0, other);
+    } // SortedStringList
+
+    /**
+     * {@code ensureCapacity} makes sure the array can hold at least
+     * {@code minCapacity} items.
+     *
+     * @param minCapacity is the number of items the array must be able to hold.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > items.length) {
+            items = Arrays.copyOf(items, Math.max(minCapacity, items.length * 2));
+        } // if
+    } // ensureCapacity
+
+    /**
+     * {@code lowerBound} returns the first index from {@code from} on whose
+     * item does not sort before {@code target}.
+     *
+     * @param from is the first index searched.
+     * @param target is the string being placed.
+     * @return the index, which is {@code size} if every item sorts before it.
+     */
+    private int lowerBound(int from, String target) {
+        int low = from;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(items[middle], target) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            } // if
+        } // while
+        return low;
+    } // lowerBound
+
+    /**
+     * {@code upperBound} returns the first index whose item sorts after
+     * {@code target}, so that a new item goes after the items equal to it.
+     *
+     * @param target is the string being placed.
+     * @return the index, which is {@code size} if no item sorts after it.
+     */
+    private int upperBound(String target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(items[middle], target) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            } // if
+        } // while
+        return low;
+    } // upperBound
+
+    /**
+     * {@code add} adds an {@code item} at its sorted position. The
+     * {@code index} is only checked to be in range.
+     *
+     * @param index is an index in range; it does not decide where the item goes.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+
+        ensureCapacity(size + 1);
+        int position = upperBound(item);
+        System.arraycopy(items, position, items, position + 1, size - position);
+        items[position] = item;
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code add} adds a list of {@code items} at their sorted positions. The
+     * items are sorted first unless they already are, and then merged in from
+     * the back of the array in one pass. The {@code index} is only checked to
+     * be in range.
+     *
+     * @param index is an index in range; it does not decide where the items go.
+     * @param items is the StringList that is inserted.
+     * @return true when at least one item was inserted.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public boolean add(int index, StringList items) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        // Copying the items first in case items is this list
+        String[] incoming = toArray(items);
+        for (int i = 1; i < incoming.length; i++) {
+            if (comparator.compare(incoming[i - 1], incoming[i]) > 0) {
+                Arrays.sort(incoming, comparator);
+                break;
+            } // if
+        } // for
+
+        // Merging from the back, so every item is moved at most once
+        ensureCapacity(size + incoming.length);
+        int mine = size - 1;
+        int theirs = incoming.length - 1;
+        int to = size + incoming.length - 1;
+        while (theirs >= 0) {
+            if (mine >= 0 && comparator.compare(this.items[mine], incoming[theirs]) > 0) {
+                this.items[to] = this.items[mine];
+                mine--;
+            } else {
+                this.items[to] = incoming[theirs];
+                theirs--;
+            } // if
+            to--;
+        } // while
+        size += incoming.length;
+        modCount++;
+        return incoming.length != 0;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        return items[index];
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. The items after it stay sorted.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        String removedString = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        items[size] = null;
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code indexOf} binary searches for the first index from {@code start}
+     * on whose item is {@code target}. Items the comparator considers equal
+     * to the target but that are different strings are skipped.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        for (int i = lowerBound(Math.max(start, 0), target); i < size; i++) {
+            if (comparator.compare(items[i], target) != 0) {
+                break;
+            } else if (items[i].equals(target)) {
+                return i;
+            } // if
+        } // for
+        return -1;
+    } // indexOf
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code applyBatch} applies {@code edits} one at a time. Inserted items
+     * go to their sorted positions rather than the given index, so the
+     * positions of later edits depend on the items and cannot be worked out
+     * ahead of time.
+     *
+     * @param edits is the edits, in the order they are applied.
+     * @throws IndexOutOfBoundsException when an edit's index is out of range.
+     */
+    @Override
+    public void applyBatch(List<Edit> edits) {
+        for (Edit edit : edits) {
+            edit.applyTo(this);
+        } // for
+    } // applyBatch
+
+    /**
+     * {@code reverse} returns the strings in reverse order, as a
+     * {@code SortedStringList} that sorts by the reversed comparator.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        SortedStringList reversedList = new SortedStringList(comparator.reversed());
+        reversedList.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            reversedList.items[i] = items[size - 1 - i];
+        } // for
+        reversedList.size = size;
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size. Every slice of a sorted list is sorted, so the new
+     * list is a {@code SortedStringList} with the same comparator.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        SortedStringList slicedList = new SortedStringList(comparator);
+        slicedList.ensureCapacity((stop - start + step - 1) / step);
+        int j = 0;
+        for (int i = start; i < stop; i += step, j++) {
+            slicedList.items[j] = items[i];
+        } // for
+        slicedList.size = j;
+        return slicedList;
+    } // slice
+
+} // SortedStringList
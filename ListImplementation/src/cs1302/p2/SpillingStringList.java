@@ -0,0 +1,662 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code SpillingStringList} is a child class of {@link BaseStringList} for
+ * lists too large to keep on the heap. The items are kept in segments of at
+ * most {@code segmentSize} items, and only the {@code residentSegments} most
+ * recently used segments are kept in memory. When another segment is needed,
+ * the least recently used one is paged out to its own temporary file (or just
+ * dropped, if its file is already up to date) and the needed one is paged in.
+ *
+ * <p>
+ * Reading the list from front to back, as {@code contains} and
+ * {@code makeString} do, reads the next segment ahead on a background thread
+ * while the current one is being used. Only one segment is read ahead at a
+ * time, so at most one more segment than {@code residentSegments} is in
+ * memory. {@link #pageIns}, {@link #pageOuts} and {@link #prefetchHits} count
+ * the paging done so far.
+ *
+ * <p>
+ * {@link #close} deletes the temporary files; those of lists that were never
+ * closed are deleted when the program exits. Segments are written as UTF-16
+ * chars rather than UTF-8, so every string, even one holding an unpaired
+ * surrogate, reads back exactly as it was added. Like the other lists, a
+ * {@code SpillingStringList} is not safe to use from more than one thread at
+ * a time.
+ */
+public class SpillingStringList extends BaseStringList implements Closeable {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 16;
+    private static final int DEFAULT_RESIDENT_SEGMENTS = 16;
+
+    // One background thread reads segments ahead for every list
+    private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "SpillingStringList-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Temporary directories of lists not yet closed, deleted when the program exits
+    private static final Set<Path> UNCLOSED = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (Path unclosed : UNCLOSED) {
+                deleteDirectory(unclosed);
+            } // for
+        }, "SpillingStringList-cleanup"));
+    } // static
+
+    /**
+     * {@code Segment} is a run of consecutive items, held in {@code items}
+     * while it is in memory and in {@code file} while it is not.
+     */
+    private static final class Segment {
+        String[] items;
+        int count;
+        int start;
+        Path file;
+        boolean dirty;
+        CompletableFuture<String[]> prefetched;
+    } // Segment
+
+    private final int segmentSize;
+    private final int residentSegments;
+    private final List<Segment> segments = new ArrayList<>();
+
+    // Segments in memory, least recently used first
+    private final LinkedHashMap<Segment, Boolean> resident = new LinkedHashMap<>(16, 0.75f, true);
+
+    private Path directory;
+    private int cursor;
+
+    // The segment being read ahead, if any; only one is read ahead at a time
+    private Segment prefetching;
+
+    private long pageIns;
+    private long pageOuts;
+    private long prefetchHits;
+
+    /**
+     * Constructor to be able to instantiate {@code SpillingStringList} objects
+     * that keep 16 segments of 65536 items in memory.
+     */
+    public SpillingStringList() {
+        this(DEFAULT_SEGMENT_SIZE, DEFAULT_RESIDENT_SEGMENTS);
+    } // SpillingStringList
+
+    /**
+     * Constructs an empty {@code SpillingStringList} that keeps at most
+     * {@code residentSegments} segments of {@code segmentSize} items in memory.
+     *
+     * @param segmentSize is the most items one segment holds.
+     * @param residentSegments is the most segments kept in memory, at least 2.
+     * @throws IllegalArgumentException when {@code segmentSize} is less than 1
+     * or {@code residentSegments} is less than 2.
+     */
+    public SpillingStringList(int segmentSize, int residentSegments) {
+        if (segmentSize < 1 || residentSegments < 2) {
+            throw new IllegalArgumentException();
+        } // if
+        this.segmentSize = segmentSize;
+        this.residentSegments = residentSegments;
+        this.size = 0;
+        segments.add(newSegment());
+    } // SpillingStringList
+
+    /**
+     * Copy constructor of {@code SpillingStringList} objects so it can create
+     * copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public SpillingStringList(StringList other) {
+        this();
+        for (int i = 0; i < other.size(); i++) {
+            this.append(other.get(i));
+        } // for
+    } // SpillingStringList
+
+    /**
+     * {@code pageIns} is the number of segments read back from disk so far,
+     * including those read ahead.
+     *
+     * @return the number of segments paged in.
+     */
+    public long pageIns() {
+        return pageIns;
+    } // pageIns
+
+    /**
+     * {@code pageOuts} is the number of segments written to disk so far.
+     * Segments whose file was already up to date are dropped without being
+     * written and are not counted.
+     *
+     * @return the number of segments paged out.
+     */
+    public long pageOuts() {
+        return pageOuts;
+    } // pageOuts
+
+    /**
+     * {@code prefetchHits} is the number of page-ins that found the segment
+     * already read ahead.
+     *
+     * @return the number of page-ins served by reading ahead.
+     */
+    public long prefetchHits() {
+        return prefetchHits;
+    } // prefetchHits
+
+    /**
+     * {@code newSegment} makes an empty segment that is in memory.
+     *
+     * @return the new segment.
+     */
+    private Segment newSegment() {
+        Segment segment = new Segment();
+        segment.items = new String[segmentSize];
+        segment.dirty = true;
+        makeResident(segment);
+        return segment;
+    } // newSegment
+
+    /**
+     * {@code makeResident} marks {@code segment} as the most recently used and
+     * pages out the least recently used segments until few enough are left.
+     *
+     * @param segment is a segment that is in memory.
+     */
+    private void makeResident(Segment segment) {
+        resident.put(segment, Boolean.TRUE);
+        Iterator<Segment> eldest = resident.keySet().iterator();
+        while (resident.size() > residentSegments) {
+            Segment victim = eldest.next();
+            eldest.remove();
+            pageOut(victim);
+        } // while
+    } // makeResident
+
+    /**
+     * {@code pageOut} writes {@code segment} to its file, unless the file is
+     * already up to date, and lets go of its items.
+     *
+     * @param segment is the segment being paged out.
+     * @throws UncheckedIOException when the file cannot be written.
+     */
+    private void pageOut(Segment segment) {
+        if (segment.dirty) {
+            try {
+                if (segment.file == null) {
+                    if (directory == null) {
+                        directory = Files.createTempDirectory("spilling-string-list");
+                        UNCLOSED.add(directory);
+                    } // if
+                    segment.file = Files.createTempFile(directory, "segment", ".bin");
+                } // if
+                try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(segment.file), 1 << 16))) {
+                    out.writeInt(segment.count);
+                    byte[] bytes = new byte[64];
+                    for (int i = 0; i < segment.count; i++) {
+                        // Writing the chars themselves, since UTF-8 would lose unpaired surrogates
+                        String item = segment.items[i];
+                        if (2 * item.length() > bytes.length) {
+                            bytes = new byte[Math.max(2 * item.length(), bytes.length * 2)];
+                        } // if
+                        for (int j = 0; j < item.length(); j++) {
+                            char c = item.charAt(j);
+                            bytes[2 * j] = (byte) (c >>> 8);
+                            bytes[2 * j + 1] = (byte) c;
+                        } // for
+                        out.writeInt(item.length());
+                        out.write(bytes, 0, 2 * item.length());
+                    } // for
+                } // try
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            } // try
+            segment.dirty = false;
+            pageOuts++;
+        } // if
+        segment.items = null;
+    } // pageOut
+
+    /**
+     * {@code deleteDirectory} deletes {@code directory} and the segment files
+     * left in it, as far as it can.
+     *
+     * @param directory is the temporary directory of a list.
+     */
+    private static void deleteDirectory(Path directory) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            } // for
+            Files.deleteIfExists(directory);
+        } catch (IOException ioe) {
+            // nothing more can be done while the program is exiting
+        } // try
+    } // deleteDirectory
+
+    /**
+     * {@code read} reads the items of a segment from {@code file} into an
+     * array that can hold a whole segment.
+     *
+     * @param file is the file of the segment.
+     * @param segmentSize is the most items one segment holds.
+     * @return the items.
+     * @throws UncheckedIOException when the file cannot be read.
+     */
+    private static String[] read(Path file, int segmentSize) {
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            int count = in.readInt();
+            String[] items = new String[Math.max(count, segmentSize)];
+            byte[] bytes = new byte[64];
+            char[] chars = new char[32];
+            for (int i = 0; i < count; i++) {
+                int length = in.readInt();
+                if (length > chars.length) {
+                    chars = new char[Math.max(length, chars.length * 2)];
+                    bytes = new byte[2 * chars.length];
+                } // if
+                in.readFully(bytes, 0, 2 * length);
+                for (int j = 0; j < length; j++) {
+                    chars[j] = (char) ((bytes[2 * j] & 0xFF) << 8 | bytes[2 * j + 1] & 0xFF);
+                } // for
+                items[i] = new String(chars, 0, length);
+            } // for
+            return items;
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        } // try
+    } // read
+
+    /**
+     * {@code pageIn} returns the items of {@code segment}, reading them from
+     * disk if the segment is not in memory.
+     *
+     * @param segment is the segment being used.
+     * @return the items of the segment.
+     */
+    private String[] pageIn(Segment segment) {
+        if (segment.items == null) {
+            String[] items = null;
+            if (segment.prefetched != null) {
+                try {
+                    items = segment.prefetched.join();
+                    prefetchHits++;
+                } catch (CompletionException ce) {
+                    items = null; // reading it here instead reports the failure
+                } // try
+                segment.prefetched = null;
+            } // if
+            segment.items = items != null ? items : read(segment.file, segmentSize);
+            pageIns++;
+        } // if
+        makeResident(segment);
+        return segment.items;
+    } // pageIn
+
+    /**
+     * {@code prefetch} starts reading segment {@code k} on the background
+     * thread if it is on disk and not already being read.
+     *
+     * @param k is the number of the segment.
+     */
+    private void prefetch(int k) {
+        if (k < segments.size()) {
+            Segment segment = segments.get(k);
+            if (segment.items == null && segment.prefetched == null) {
+                if (prefetching != null && prefetching.prefetched != null) {
+                    prefetching.prefetched.cancel(false);
+                    prefetching.prefetched = null;
+                } // if
+                prefetching = segment;
+                Path file = segment.file;
+                segment.prefetched = CompletableFuture.supplyAsync(() ->
+                    read(file, segmentSize), PREFETCHER);
+            } // if
+        } // if
+    } // prefetch
+
+    /**
+     * {@code covers} checks whether {@code index} belongs to segment
+     * {@code k}, counting the position just past a segment as belonging to it
+     * only when no later segment starts there.
+     *
+     * @param k is the number of the segment.
+     * @param index is an index from 0 to {@code size}.
+     * @return true when the index belongs to the segment.
+     */
+    private boolean covers(int k, int index) {
+        return segments.get(k).start <= index
+            && (k == segments.size() - 1 || segments.get(k + 1).start > index);
+    } // covers
+
+    /**
+     * {@code segmentAt} returns the number of the segment {@code index}
+     * belongs to. The last segment used and the one after it are checked
+     * first, and moving on to the next segment starts reading the one after
+     * that ahead.
+     *
+     * @param index is an index from 0 to {@code size}.
+     * @return the number of the segment.
+     */
+    private int segmentAt(int index) {
+        if (covers(cursor, index)) {
+            return cursor;
+        } // if
+        int k;
+        if (cursor + 1 < segments.size() && covers(cursor + 1, index)) {
+            k = cursor + 1;
+            // Paging this segment in first, since it may be the one being read ahead
+            pageIn(segments.get(k));
+            prefetch(k + 1);
+        } else {
+            int low = 0;
+            int high = segments.size() - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (segments.get(middle).start <= index) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                } // if
+            } // while
+            k = low;
+        } // if
+        cursor = k;
+        return k;
+    } // segmentAt
+
+    /**
+     * {@code shiftStarts} moves the start of every segment after segment
+     * {@code k} by {@code delta}.
+     *
+     * @param k is the number of the segment that changed size.
+     * @param delta is the change in its size.
+     */
+    private void shiftStarts(int k, int delta) {
+        for (int j = k + 1; j < segments.size(); j++) {
+            segments.get(j).start += delta;
+        } // for
+    } // shiftStarts
+
+    /**
+     * {@code discard} lets go of {@code segment} and deletes its file.
+     *
+     * @param segment is the segment being thrown away.
+     */
+    private void discard(Segment segment) {
+        resident.remove(segment);
+        segment.items = null;
+        if (segment.prefetched != null) {
+            segment.prefetched.cancel(false);
+            segment.prefetched = null;
+        } // if
+        if (segment.file != null) {
+            try {
+                Files.deleteIfExists(segment.file);
+            } catch (IOException ioe) {
+                // it is deleted when the program exits instead
+            } // try
+            segment.file = null;
+        } // if
+    } // discard
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position. A full segment is split in two, except
+     * when adding to the end of the list, which starts a new segment.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+
+        int k = segmentAt(index);
+        Segment segment = segments.get(k);
+        String[] items = pageIn(segment);
+        int offset = index - segment.start;
+        if (segment.count == segmentSize) {
+            Segment next = newSegment();
+            if (offset < segment.count) {
+                // Moving the back half into the new segment
+                int half = segment.count / 2;
+                System.arraycopy(items, half, next.items, 0, segment.count - half);
+                Arrays.fill(items, half, segment.count, null);
+                next.count = segment.count - half;
+                segment.count = half;
+                segment.dirty = true;
+            } // if
+            next.start = segment.start + segment.count;
+            segments.add(k + 1, next);
+            if (offset >= segmentSize || offset > segment.count) {
+                k++;
+                offset -= segment.count;
+                segment = next;
+                items = next.items;
+            } // if
+        } // if
+
+        System.arraycopy(items, offset, items, offset + 1, segment.count - offset);
+        items[offset] = item;
+        segment.count++;
+        segment.dirty = true;
+        shiftStarts(k, 1);
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list and deletes their
+     * files.
+     */
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            discard(segment);
+        } // for
+        segments.clear();
+        cursor = 0;
+        size = 0;
+        segments.add(newSegment());
+        modCount++;
+    } // clear
+
+    /**
+     * {@code close} removes all items in the string list and deletes the
+     * temporary directory. The list can still be used afterwards.
+     *
+     * @throws IOException when the directory cannot be deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        clear();
+        if (directory != null) {
+            Files.deleteIfExists(directory);
+            UNCLOSED.remove(directory);
+            directory = null;
+        } // if
+    } // close
+
+    /**
+     * {@code get} gets an item from the string list, paging in its segment
+     * if needed.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+        Segment segment = segments.get(segmentAt(index));
+        return pageIn(segment)[index - segment.start];
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. A segment left empty is thrown away.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        int k = segmentAt(index);
+        Segment segment = segments.get(k);
+        String[] items = pageIn(segment);
+        int offset = index - segment.start;
+        String removedString = items[offset];
+        System.arraycopy(items, offset + 1, items, offset, segment.count - offset - 1);
+        segment.count--;
+        items[segment.count] = null;
+        segment.dirty = true;
+        shiftStarts(k, -1);
+        if (segment.count == 0 && segments.size() > 1) {
+            discard(segment);
+            segments.remove(k);
+            cursor = Math.max(0, k - 1);
+        } // if
+        size--;
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code indexOf} looks for the first index from {@code start} on whose
+     * item is {@code target}, searching one segment at a time and reading
+     * the next segment ahead.
+     *
+     * @return theIndex is the index of the target string, or -1 if it is not found.
+     */
+    @Override
+    public int indexOf(int start, String target) {
+        if (start >= size) {
+            return -1;
+        } // if
+        start = Math.max(start, 0);
+        for (int k = segmentAt(start); k < segments.size(); k++) {
+            Segment segment = segments.get(k);
+            String[] items = pageIn(segment);
+            prefetch(k + 1);
+            cursor = k;
+            for (int i = Math.max(start - segment.start, 0); i < segment.count; i++) {
+                if (items[i].equals(target)) {
+                    return segment.start + i;
+                } // if
+            } // for
+        } // for
+        return -1;
+    } // indexOf
+
+    /**
+     * {@code slice} returns a view of the StringList from the {@code start}
+     * index (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return new StringListView(this, start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list, into a
+     * new {@code SpillingStringList} with the same segment size and memory
+     * limit.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        SpillingStringList reversedList = new SpillingStringList(segmentSize, residentSegments);
+        for (int i = size - 1; i >= 0; i--) {
+            reversedList.append(get(i));
+        } // for
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns a view of the list from where the list starts
+     * (inclusive) to where it stops (exclusive), taking every {@code step}-th
+     * item.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        return new StringListView(this, start, stop, step);
+    } // slice
+
+    /**
+     * {@code spliterator} returns a spliterator over the items in the list.
+     * Splitting copies batches from the iterator into arrays, so only the
+     * thread that splits ever pages segments in.
+     *
+     * @return a SIZED and ORDERED spliterator over the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
+
+} // SpillingStringList
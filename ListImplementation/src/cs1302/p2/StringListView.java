@@ -0,0 +1,356 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * {@code StringListView} is a child class of {@link BaseStringList} that
+ * shows part of another list without copying it. Index {@code i} of the view
+ * is index {@code offset + i * step} of the parent list, so a view can be a
+ * plain slice, a strided slice, or (with a negative step) a reversed list.
+ *
+ * <p>
+ * Creating a view is O(1). The view reads straight from the parent until the
+ * view itself is changed, at which point it copies its items into its own
+ * {@link ArrayStringList} and works on that copy from then on. Changing the
+ * parent while an uncopied view is still in use makes the view throw a
+ * {@link ConcurrentModificationException}.
+ */
+public class StringListView extends BaseStringList {
+
+    private final BaseStringList parent;
+    private final int offset;
+    private final int step;
+    private final int parentModCount;
+
+    // The view's own items, made the first time the view is changed
+    private ArrayStringList copy;
+
+    /**
+     * Constructs a {@code StringListView} of the items in {@code parent} from the
+     * {@code start} index (inclusive) to the {@code stop} index (exclusive),
+     * taking every {@code step}-th item.
+     *
+     * @param parent is the list the view reads from.
+     * @param start is where the view starts (inclusive).
+     * @param stop is where the view stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    public StringListView(BaseStringList parent, int start, int stop, int step) {
+        if (start < 0 || stop > parent.size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        // Reading through to the root list so views of views do not chain
+        if (parent instanceof StringListView && ((StringListView) parent).copy == null) {
+            StringListView parentView = (StringListView) parent;
+            parentView.checkParent();
+            this.parent = parentView.parent;
+            this.offset = parentView.offset + start * parentView.step;
+            this.step = step * parentView.step;
+        } else {
+            this.parent = parent;
+            this.offset = start;
+            this.step = step;
+        } // if
+        this.parentModCount = this.parent.modCount;
+        this.size = (stop - start + step - 1) / step;
+    } // StringListView
+
+    /**
+     * Constructs a {@code StringListView} directly from its index mapping.
+     *
+     * @param parent is the list the view reads from.
+     * @param offset is the parent index of the first item in the view.
+     * @param size is the number of items in the view.
+     * @param step is the distance between parent indices of neighbouring items.
+     * @param modCount is the parent modCount the view was made against.
+     */
+    private StringListView(BaseStringList parent, int offset, int size, int step, int modCount) {
+        this.parent = parent;
+        this.offset = offset;
+        this.step = step;
+        this.parentModCount = modCount;
+        this.size = size;
+    } // StringListView
+
+    /**
+     * {@code reversed} returns a view of all of {@code parent} in reverse order.
+     *
+     * @param parent is the list the view reads from.
+     * @return the reversed view.
+     */
+    static StringListView reversed(BaseStringList parent) {
+        return reversed(parent, parent.size());
+    } // reversed
+
+    /**
+     * {@code reversed} returns a view of all of {@code parent} in reverse
+     * order, for a parent that already knows its {@code size} and should not
+     * be asked for it.
+     *
+     * @param parent is the list the view reads from.
+     * @param size is the number of items in {@code parent}.
+     * @return the reversed view.
+     */
+    static StringListView reversed(BaseStringList parent, int size) {
+        return new StringListView(parent, size - 1, size, -1, parent.modCount);
+    } // reversed
+
+    /**
+     * {@code checkParent} makes sure the parent has not been changed since
+     * the view was made.
+     *
+     * @throws ConcurrentModificationException when the parent has been changed.
+     */
+    private void checkParent() {
+        if (parent.modCount != parentModCount) {
+            throw new ConcurrentModificationException();
+        } // if
+    } // checkParent
+
+    /**
+     * {@code materialize} copies the items in the view into a new, independent
+     * {@code ArrayStringList}.
+     *
+     * @return a new list holding the same items as the view.
+     */
+    public ArrayStringList materialize() {
+        if (copy != null) {
+            return new ArrayStringList(copy);
+        } // if
+        checkParent();
+
+        // Reading the parent in increasing index order, which linked parents walk fastest
+        String[] copiedItems = new String[size];
+        if (!(parent instanceof RandomAccess) && size > 0) {
+            // Walking the parent once with its iterator instead of indexing into it
+            int low = step > 0 ? offset : offset + (size - 1) * step;
+            int stride = Math.abs(step);
+            Iterator<String> walk = parent.iterator();
+            for (int i = 0; i < low; i++) {
+                walk.next();
+            } // for
+            for (int i = 0; i < size; i++) {
+                copiedItems[step > 0 ? i : size - 1 - i] = walk.next();
+                for (int skip = 1; skip < stride && i < size - 1; skip++) {
+                    walk.next();
+                } // for
+            } // for
+        } else if (step > 0) {
+            for (int i = 0; i < size; i++) {
+                copiedItems[i] = parent.get(offset + i * step);
+            } // for
+        } else {
+            for (int i = size - 1; i >= 0; i--) {
+                copiedItems[i] = parent.get(offset + i * step);
+            } // for
+        } // if
+        return new ArrayStringList(copiedItems);
+    } // materialize
+
+    /**
+     * {@code ownItems} copies the items out of the parent the first time the
+     * view is changed.
+     *
+     * @return the view's own copy of its items.
+     */
+    private ArrayStringList ownItems() {
+        if (copy == null) {
+            copy = materialize();
+        } // if
+        return copy;
+    } // ownItems
+
+    /**
+     * {@code add} adds an {@code item} to the view at a specified index
+     * position. The view copies its items first, so the parent is not changed.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        boolean added = ownItems().add(index, item);
+        size = copy.size();
+        modCount++;
+        return added;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the view. The parent is not changed.
+     */
+    @Override
+    public void clear() {
+        copy = new ArrayStringList();
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the view.
+     *
+     * @param index is the index of the item that is returned from the view.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        if (copy != null) {
+            return copy.get(index);
+        } // if
+        checkParent();
+        return parent.get(offset + index * step);
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the view. The view copies its items first, so the parent is not changed.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        String removedString = ownItems().remove(index);
+        size = copy.size();
+        modCount++;
+        return removedString;
+    } // remove
+
+    /**
+     * {@code slice} returns a view of the items in this view from the
+     * {@code start} index (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced view.
+     * @param stop is the exclusive ending point of the sliced view.
+     * @return the sliced view from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} returns a view of the items in this view in reverse order.
+     *
+     * @return a reversed view of this view.
+     */
+    @Override
+    public FancyStringList reverse() {
+        if (copy != null) {
+            return copy.reverse();
+        } // if
+        return reversedView();
+    } // reverse
+
+    /**
+     * {@code reversedView} returns a view of the items in this view in
+     * reverse order, reading from the same parent.
+     *
+     * @return a reversed view of this view.
+     */
+    @Override
+    public StringListView reversedView() {
+        if (copy != null) {
+            return super.reversedView();
+        } // if
+        checkParent();
+        return new StringListView(parent, offset + (size - 1) * step, size, -step,
+            parentModCount);
+    } // reversedView
+
+    /**
+     * {@code slice} returns a view of the items in this view from where the
+     * view starts (inclusive) to where it stops (exclusive), taking every
+     * {@code step}-th item.
+     *
+     * @param start is where the sliced view starts (inclusive).
+     * @param stop is where the sliced view stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return the new sliced view.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (copy != null) {
+            return copy.slice(start, stop, step);
+        } // if
+        return new StringListView(this, start, stop, step);
+    } // slice
+
+    /**
+     * {@code readsBackwards} checks whether reading the view in order would
+     * walk a list that is not {@link RandomAccess} backwards, which costs a
+     * walk from its head for every item.
+     *
+     * @return true when the view should be read from a snapshot instead.
+     */
+    private boolean readsBackwards() {
+        return copy == null && step < 0 && !(parent instanceof RandomAccess);
+    } // readsBackwards
+
+    /**
+     * {@code iterator} returns an iterator over the items in the view. A
+     * reversed view of a list that is not {@link RandomAccess} reads the
+     * parent forwards once into a snapshot and iterates that.
+     *
+     * @return an iterator over the items in the view.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        if (readsBackwards()) {
+            return materialize().iterator();
+        } // if
+        return super.iterator();
+    } // iterator
+
+    /**
+     * {@code makeString} makes a string representation of the view, reading
+     * a reversed view of a list that is not {@link RandomAccess} from a
+     * snapshot.
+     *
+     * @param start is the first string in the string list representation.
+     * @param sep is the string that separates each string element in the list.
+     * @param end is the last string in the string list representation.
+     */
+    @Override
+    public String makeString(String start, String sep, String end) {
+        if (readsBackwards()) {
+            return materialize().makeString(start, sep, end);
+        } // if
+        return super.makeString(start, sep, end);
+    } // makeString
+
+    /**
+     * {@code spliterator} returns a spliterator over the items in the view.
+     * Views of lists that are not {@link RandomAccess} split by batching a
+     * sequential walk instead of indexing into the parent from many threads.
+     *
+     * @return an ORDERED and SIZED spliterator over the view.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        if (copy != null || parent instanceof RandomAccess) {
+            return super.spliterator();
+        } // if
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
+
+} // StringListView
@@ -0,0 +1,374 @@
+package cs1302.p2;
+
+import cs1302.adt.StringList;
+import cs1302.adt.FancyStringList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * {@code UnrolledStringList} is a child class of {@link BaseStringList}
+ * that stores its strings in fixed-size array chunks which are linked
+ * together. Walking the list skips a whole chunk at a time instead of a
+ * single node, and inserting in the middle only shifts items inside one chunk.
+ */
+public class UnrolledStringList extends BaseStringList {
+
+    /** The number of strings that fit in one chunk. */
+    private static final int CHUNK_CAPACITY = 64;
+
+    /**
+     * {@code Chunk} is one link of the unrolled list. It holds up to
+     * {@code CHUNK_CAPACITY} strings in order and a reference to the next chunk.
+     */
+    private static class Chunk {
+
+        private String[] items = new String[CHUNK_CAPACITY];
+        private int count;
+        private Chunk next;
+
+    } // Chunk
+
+    private Chunk head;
+    private Chunk tail;
+
+    /**
+     * Constructor to be able to instantiate {@code UnrolledStringList} objects.
+     */
+    public UnrolledStringList() {
+        head = null;
+        tail = null;
+        size = 0;
+    } // UnrolledStringList
+
+    /**
+     * Copy constructor of {@code UnrolledStringList} objects so it can create
+     * deep copies of previous StringList objects.
+     *
+     * @param other is the other StringList that is being copied.
+     */
+    public UnrolledStringList(StringList other) {
+        this();
+        for (int i = 0; i < other.size(); i++) {
+            this.append(other.get(i));
+        } // for
+    } // UnrolledStringList
+
+    /**
+     * {@code checkItem} checks that an {@code item} is allowed in the list.
+     *
+     * @param item is the String item that is checked.
+     * @throws NullPointerException when the item is null.
+     * @throws IllegalArgumentException when the item is the empty string.
+     */
+    private static void checkItem(String item) {
+        if (item == null) {
+            throw new NullPointerException();
+        } // if
+
+        if (item.equals("")) {
+            throw new IllegalArgumentException();
+        } // if
+    } // checkItem
+
+    /**
+     * {@code append} appends an item into the {@code size} index. The item goes
+     * straight into the tail chunk, so no chunks have to be walked.
+     *
+     * @param item is the item being appended.
+     */
+    @Override
+    public boolean append(String item) {
+        checkItem(item);
+
+        if (tail == null || tail.count == CHUNK_CAPACITY) {
+            Chunk newChunk = new Chunk();
+            if (tail == null) {
+                head = newChunk;
+            } else {
+                tail.next = newChunk;
+            } // if
+            tail = newChunk;
+        } // if
+        tail.items[tail.count] = item;
+        tail.count++;
+        size++;
+        modCount++;
+        return true;
+    } // append
+
+    /**
+     * {@code add} adds an {@code item} to the string list at
+     * a specified index position.
+     *
+     * @param index is the index position where the item is to be inserted.
+     * @param item is the String item that is inserted.
+     * @return true when there are no exception thrown.
+     */
+    @Override
+    public boolean add(int index, String item) {
+        // Checking for exceptions
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        checkItem(item);
+
+        if (index == size) {
+            return append(item);
+        } // if
+
+        // Finding the chunk holding the index and the offset inside of it
+        Chunk chunk = head;
+        int offset = index;
+        while (offset >= chunk.count) {
+            offset -= chunk.count;
+            chunk = chunk.next;
+        } // while
+
+        // Splitting a full chunk in half so there is room for the new item
+        if (chunk.count == CHUNK_CAPACITY) {
+            Chunk newChunk = new Chunk();
+            int half = CHUNK_CAPACITY / 2;
+            System.arraycopy(chunk.items, half, newChunk.items, 0, CHUNK_CAPACITY - half);
+            for (int i = half; i < CHUNK_CAPACITY; i++) {
+                chunk.items[i] = null;
+            } // for
+            newChunk.count = CHUNK_CAPACITY - half;
+            chunk.count = half;
+            newChunk.next = chunk.next;
+            chunk.next = newChunk;
+            if (tail == chunk) {
+                tail = newChunk;
+            } // if
+            if (offset >= half) {
+                offset -= half;
+                chunk = newChunk;
+            } // if
+        } // if
+
+        // Shifting the rest of the chunk one space to the right
+        System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+        chunk.items[offset] = item;
+        chunk.count++;
+        size++;
+        modCount++;
+        return true;
+    } // add
+
+    /**
+     * {@code clear} removes all items in the string list.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    } // clear
+
+    /**
+     * {@code get} gets an item from the string list.
+     *
+     * @param index is the index of the item that is returned from the list.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        Chunk chunk = head;
+        int offset = index;
+        while (offset >= chunk.count) {
+            offset -= chunk.count;
+            chunk = chunk.next;
+        } // while
+        return chunk.items[offset];
+    } // get
+
+    /**
+     * {@code remove} removes an item from a specified index position in
+     * the string list. Items after the removed string in the same chunk are
+     * shifted to the left, and a chunk that becomes empty is unlinked.
+     *
+     * @param index is the index of the string that is removed.
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public String remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        Chunk previous = null;
+        Chunk chunk = head;
+        int offset = index;
+        while (offset >= chunk.count) {
+            offset -= chunk.count;
+            previous = chunk;
+            chunk = chunk.next;
+        } // while
+
+        String removedString = chunk.items[offset];
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+        chunk.count--;
+        chunk.items[chunk.count] = null;
+        size--;
+        modCount++;
+
+        if (chunk.count == 0) {
+            // Unlinking the empty chunk
+            if (previous == null) {
+                head = chunk.next;
+            } else {
+                previous.next = chunk.next;
+            } // if
+            if (tail == chunk) {
+                tail = previous;
+            } // if
+        } else if (chunk.next != null
+            && chunk.count + chunk.next.count <= CHUNK_CAPACITY / 2) {
+            // Merging two sparse neighbours so chunks stay reasonably full
+            Chunk nextChunk = chunk.next;
+            System.arraycopy(nextChunk.items, 0, chunk.items, chunk.count, nextChunk.count);
+            chunk.count += nextChunk.count;
+            chunk.next = nextChunk.next;
+            if (tail == nextChunk) {
+                tail = chunk;
+            } // if
+        } // if
+        return removedString;
+    } // remove
+
+    /**
+     * {@code slice} slices the StringList from the {@code start} index
+     * (inclusive) to the {@code stop} index (exclusive).
+     *
+     * @param start is the inclusive starting point of the sliced list.
+     * @param stop is the exclusive ending point of the sliced list.
+     * @return the sliced StringList from {@code start} (inclusive) to {@code stop} (exclusive).
+     * @throws IndexOutOfBoundsException when the provided index is out of range.
+     */
+    @Override
+    public StringList slice(int start, int stop) {
+        return slice(start, stop, 1);
+    } // slice
+
+    /**
+     * {@code reverse} reverses the order of the strings in the list.
+     *
+     * @return reversedList is the new {@code FancyStringList} object with the
+     * reversed objects.
+     */
+    @Override
+    public FancyStringList reverse() {
+        // Copying each chunk into an array so the items can be read back to front
+        String[] ordered = new String[size];
+        int j = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, 0, ordered, j, chunk.count);
+            j += chunk.count;
+        } // for
+
+        UnrolledStringList reversedList = new UnrolledStringList();
+        for (int i = ordered.length - 1; i >= 0; i--) {
+            reversedList.append(ordered[i]);
+        } // for
+        return reversedList;
+    } // reverse
+
+    /**
+     * {@code slice} returns the new {@code FancyStringList} when where the list
+     * starts (inclusive) to where it stops (exclusive) and adds intervals based on
+     * the {@code step} size.
+     *
+     * @param start is where the sliced list starts (inclusive).
+     * @param stop is where the sliced list stops (exclusive).
+     * @param step is step size amount between each String element.
+     * @return slicedList is the new sliced list.
+     * @throws IndexOutOfBoundsException when the parameters don't meet the criteria.
+     */
+    @Override
+    public FancyStringList slice(int start, int stop, int step) {
+        if (start < 0 || stop > size() || start > stop || step < 1) {
+            throw new IndexOutOfBoundsException();
+        } // if
+
+        UnrolledStringList slicedList = new UnrolledStringList();
+
+        // Skipping whole chunks until the one holding start is reached
+        Chunk chunk = head;
+        int offset = start;
+        while (chunk != null && offset >= chunk.count) {
+            offset -= chunk.count;
+            chunk = chunk.next;
+        } // while
+
+        // Walking the chunks once, taking every step-th item
+        for (int i = start; i < stop; i += step) {
+            while (offset >= chunk.count) {
+                offset -= chunk.count;
+                chunk = chunk.next;
+            } // while
+            slicedList.append(chunk.items[offset]);
+            offset += step;
+        } // for
+        return slicedList;
+    } // slice
+
+    /**
+     * {@code iterator} returns a fail-fast iterator that walks the chunks from the head.
+     *
+     * @return an iterator over the items in the list.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private Chunk current = head;
+            private int offset = 0;
+            private int remaining = size;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            } // hasNext
+
+            @Override
+            public String next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                } // if
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                } // if
+                String nextItem = current.items[offset];
+                offset++;
+                if (offset == current.count) {
+                    current = current.next;
+                    offset = 0;
+                } // if
+                remaining--;
+                return nextItem;
+            } // next
+        };
+    } // iterator
+
+    /**
+     * {@code spliterator} returns a spliterator over the items in the list.
+     * Splitting copies batches from the iterator into arrays, so parallel
+     * streams never have to index into the chain.
+     *
+     * @return a SIZED and ORDERED spliterator over the list.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.NONNULL);
+    } // spliterator
+
+} // UnrolledStringList